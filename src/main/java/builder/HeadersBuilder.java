@@ -6,13 +6,12 @@ import java.time.Instant;
 import java.util.Date;
 
 public class HeadersBuilder {
+    private final Headers.Builder headerBuilder = new Headers.Builder();
+
     private HeadersBuilder() {
     }
 
-    private static Headers.Builder headerBuilder;
-
     public static HeadersBuilder builder() {
-        headerBuilder = new Headers.Builder();
         return new HeadersBuilder();
     }
 
@@ -1,18 +1,39 @@
 package builder;
 
+import interceptor.CircuitBreakerInterceptor;
+import interceptor.HeaderInterceptor;
+import interceptor.RateLimitInterceptor;
+import interceptor.ResponseCacheInterceptor;
+import interceptor.RetryInterceptor;
+import metrics.CallMetrics;
+import okhttp3.Cache;
 import okhttp3.Credentials;
 import okhttp3.Headers;
+import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 
+import java.io.File;
+import java.time.Duration;
+
 public class OkhttpClientBuilder {
-    private OkhttpClientBuilder() {
-    }
+    private final OkHttpClient.Builder okHttpBuilder;
 
-    private static OkHttpClient.Builder okHttpBuilder;
+    private OkhttpClientBuilder(OkHttpClient.Builder okHttpBuilder) {
+        this.okHttpBuilder = okHttpBuilder;
+    }
 
+    /**
+     * Returns a builder derived from the shared root client, built clients share its connection pool and dispatcher
+     */
     public static OkhttpClientBuilder builder() {
-        okHttpBuilder = new OkHttpClient.Builder();
-        return new OkhttpClientBuilder();
+        return new OkhttpClientBuilder(sharedClient().newBuilder());
+    }
+
+    /**
+     * Returns the root client that every built client is derived from
+     */
+    public static OkHttpClient sharedClient() {
+        return SharedClient.ROOT;
     }
 
     public OkhttpClientBuilder addBasicAuthentication(final String userName, final String password) {
@@ -32,7 +53,116 @@ public class OkhttpClientBuilder {
         return this;
     }
 
+    /**
+     * Adds the basic authentication header to every request, instead of after a 401 challenge
+     */
+    public OkhttpClientBuilder addPreemptiveBasicAuthentication(final String userName, final String password) {
+        return addPreemptiveHeaders(Headers.of("Authorization", Credentials.basic(userName, password)));
+    }
+
+    /**
+     * Adds the token as authorization header to every request, instead of after a 401 challenge
+     */
+    public OkhttpClientBuilder addPreemptiveToken(final String token) {
+        return addPreemptiveHeaders(Headers.of("Authorization", token));
+    }
+
+    /**
+     * Adds given headers to every request, replacing headers of the same name
+     */
+    public OkhttpClientBuilder addPreemptiveHeaders(final Headers headers) {
+        return addInterceptor(new HeaderInterceptor(headers));
+    }
+
+    /**
+     * Retries idempotent requests on 429 & 5xx responses with exponential backoff, honouring Retry-After headers.
+     * Interceptors run in the order they are added, add the retry before the rate limiter to rate limit the retries too.
+     *
+     * @param maxRetries maximum number of retries per request
+     * @param initialDelay delay before the first retry, doubled on each retry
+     * @param maxDelay upper bound of a single delay
+     */
+    public OkhttpClientBuilder addRetry(final int maxRetries, final Duration initialDelay, final Duration maxDelay) {
+        return addInterceptor(new RetryInterceptor(maxRetries, initialDelay, maxDelay));
+    }
+
+    public OkhttpClientBuilder addRetry(final int maxRetries) {
+        return addInterceptor(new RetryInterceptor(maxRetries));
+    }
+
+    /**
+     * Limits the request rate of the client with a token bucket
+     *
+     * @param permitsPerSecond sustained request rate
+     * @param burst maximum number of requests that can be sent at once
+     */
+    public OkhttpClientBuilder addRateLimit(final double permitsPerSecond, final int burst) {
+        return addInterceptor(new RateLimitInterceptor(permitsPerSecond, burst));
+    }
+
+    /**
+     * Fails requests fast after consecutive failures, until the open duration passes
+     *
+     * @param failureThreshold consecutive failures (I/O errors or 5xx responses) that open the circuit
+     * @param openDuration duration the circuit stays open before a trial request
+     */
+    public OkhttpClientBuilder addCircuitBreaker(final int failureThreshold, final Duration openDuration) {
+        return addInterceptor(new CircuitBreakerInterceptor(failureThreshold, openDuration));
+    }
+
+    /**
+     * Caches responses on disk following their HTTP caching headers
+     *
+     * @param directory cache directory, should not be shared by caches of different clients
+     * @param maxSize maximum size of the cache in bytes
+     */
+    public OkhttpClientBuilder addDiskCache(final File directory, final long maxSize) {
+        okHttpBuilder.cache(new Cache(directory, maxSize));
+        return this;
+    }
+
+    /**
+     * Caches GET responses in memory for the whole run, revalidating them with their ETags
+     */
+    public OkhttpClientBuilder addResponseCache() {
+        return addResponseCache(ResponseCacheInterceptor.shared());
+    }
+
+    /**
+     * Caches GET responses in the given in-memory cache, clear it after each scenario to scope it per scenario
+     */
+    public OkhttpClientBuilder addResponseCache(final ResponseCacheInterceptor responseCache) {
+        return addInterceptor(responseCache);
+    }
+
+    /**
+     * Records timing & connection metrics of every call into the run wide metrics, exported as json at the end of the run
+     */
+    public OkhttpClientBuilder addMetrics() {
+        return addMetrics(CallMetrics.shared());
+    }
+
+    /**
+     * Records timing & connection metrics of every call into given metrics
+     */
+    public OkhttpClientBuilder addMetrics(final CallMetrics metrics) {
+        okHttpBuilder.eventListenerFactory(metrics.listenerFactory());
+        return this;
+    }
+
+    /**
+     * Adds an application interceptor, use to share a rate limiter or circuit breaker between clients
+     */
+    public OkhttpClientBuilder addInterceptor(final Interceptor interceptor) {
+        okHttpBuilder.addInterceptor(interceptor);
+        return this;
+    }
+
     public OkHttpClient build() {
         return okHttpBuilder.build();
     }
-}
\ No newline at end of file
+
+    private static class SharedClient {
+        private static final OkHttpClient ROOT = new OkHttpClient();
+    }
+}
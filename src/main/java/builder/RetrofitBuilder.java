@@ -5,13 +5,12 @@ import function.ConverterFactoryFunction;
 import retrofit2.Retrofit;
 
 public class RetrofitBuilder {
-    private static Retrofit.Builder retrofitBuilder;
+    private final Retrofit.Builder retrofitBuilder = new Retrofit.Builder();
 
     private RetrofitBuilder() {
     }
 
     public static RetrofitBuilder builder() {
-        retrofitBuilder = new Retrofit.Builder();
         return new RetrofitBuilder();
     }
 
@@ -1,13 +1,39 @@
 package factory;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.gson.stream.JsonReader;
+import okhttp3.ResponseBody;
 import retrofit2.Call;
+import retrofit2.Callback;
 import retrofit2.Response;
 import retrofit2.Retrofit;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static function.ConverterFactoryFunction.GSON;
+import static function.ConverterFactoryFunction.OBJECT_MAPPER;
 
 public class RetrofitClientFactory {
 
+    /**
+     * Number of threads of the platform pool used when virtual threads are not available (JDK 17)
+     */
+    private static volatile int platformParallelism = 64;
+
+    /**
+     * Blocking calls run on virtual threads when they are available if true
+     */
+    static volatile boolean virtualThreads = true;
+
     private RetrofitClientFactory() {
     }
 
@@ -26,4 +52,326 @@ public class RetrofitClientFactory {
 
         return response;
     }
+
+    /**
+     * Enqueues a call on the OkHttp dispatcher of its client, cancelling the future cancels the call
+     *
+     * @param call call to be executed
+     * @return returns a future that completes with the response, or exceptionally if the call fails
+     */
+    public static <T> CompletableFuture<Response<T>> executeAsync(Call<T> call) {
+        CompletableFuture<Response<T>> future = new CompletableFuture<>();
+        call.enqueue(new Callback<>() {
+            @Override
+            public void onResponse(Call<T> call, Response<T> response) {
+                future.complete(response);
+            }
+
+            @Override
+            public void onFailure(Call<T> call, Throwable throwable) {
+                future.completeExceptionally(throwable instanceof IOException ? new RuntimeException(throwable) : throwable);
+            }
+        });
+        future.whenComplete((response, throwable) -> {
+            if (future.isCancelled()) call.cancel();
+        });
+        return future;
+    }
+
+    /**
+     * Executes calls on the OkHttp dispatcher, keeping at most {@code concurrency} calls in flight.
+     * The dispatcher limits (max requests & max requests per host) still apply on top of the given concurrency.
+     * The first failing call fails the batch: calls in flight are cancelled and the remaining calls are not started.
+     *
+     * @param calls calls to be executed
+     * @param concurrency maximum number of calls in flight
+     * @return returns the responses, in the order of the calls
+     * @throws IllegalArgumentException if the concurrency is less than 1
+     */
+    public static <T> List<Response<T>> executeAll(List<Call<T>> calls, int concurrency) {
+        if (concurrency < 1) throw new IllegalArgumentException("Concurrency must be at least 1, but was " + concurrency);
+        Semaphore permits = new Semaphore(concurrency);
+        CompletableFuture<Void> failure = new CompletableFuture<>();
+        List<CompletableFuture<Response<T>>> futures = new ArrayList<>(calls.size());
+        try {
+            for (Call<T> call : calls) {
+                permits.acquire();
+                if (failure.isDone()) break;
+                CompletableFuture<Response<T>> future = executeAsync(call);
+                future.whenComplete((response, throwable) -> {
+                    permits.release();
+                    if (throwable != null) failure.completeExceptionally(throwable);
+                });
+                futures.add(future);
+            }
+            CompletableFuture.anyOf(CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])), failure).join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new RuntimeException(e);
+        }
+        catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e.getCause() instanceof RuntimeException cause ? cause : new RuntimeException(e.getCause());
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * Executes calls on the OkHttp dispatcher, concurrency is limited by the dispatcher alone
+     *
+     * @param calls calls to be executed
+     * @return returns the responses, in the order of the calls
+     */
+    public static <T> List<Response<T>> executeAll(List<Call<T>> calls) {
+        return executeAll(calls, Math.max(1, calls.size()));
+    }
+
+    /**
+     * Executes a call returning a json array, deserializing its items lazily with Gson while the body is read.
+     * Declare the service method with {@code @Streaming} and a {@link ResponseBody} return type, so that the body is not buffered.
+     * The stream must be closed (ex: try-with-resources) to release the connection.
+     *
+     * @param call call returning a json array
+     * @param type item type
+     * @return returns a lazy stream of the array items
+     */
+    public static <T> Stream<T> streamCall(Call<ResponseBody> call, Class<T> type) {
+        return streamCall(call, type, "gson");
+    }
+
+    /**
+     * Executes a call returning a json array, deserializing its items lazily while the body is read
+     *
+     * @param call call returning a json array
+     * @param type item type
+     * @param converter gson or jackson
+     * @return returns a lazy stream of the array items
+     */
+    public static <T> Stream<T> streamCall(Call<ResponseBody> call, Class<T> type, String converter) {
+        Response<ResponseBody> response = executeCall(call);
+        ResponseBody body = response.body();
+        if (!response.isSuccessful() || body == null) {
+            if (response.errorBody() != null) response.errorBody().close();
+            throw new RuntimeException("Streaming call to " + call.request().url() + " failed with status " + response.code());
+        }
+        try {
+            Iterator<T> iterator = switch (converter) {
+                case "gson" -> gsonIterator(body, type);
+                case "jackson" -> jacksonIterator(body, type);
+                default -> throw new IllegalArgumentException("Streaming is not supported by the " + converter + " converter");
+            };
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(body::close);
+        }
+        catch (IOException | RuntimeException exception) {
+            body.close();
+            throw exception instanceof IOException ioException ? new UncheckedIOException(ioException) : (RuntimeException) exception;
+        }
+    }
+
+    private static <T> Iterator<T> gsonIterator(ResponseBody body, Class<T> type) throws IOException {
+        JsonReader reader = new JsonReader(body.charStream());
+        reader.beginArray();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {return reader.hasNext();}
+                catch (IOException exception) {throw new UncheckedIOException(exception);}
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return GSON.fromJson(reader, type);
+            }
+        };
+    }
+
+    private static <T> Iterator<T> jacksonIterator(ResponseBody body, Class<T> type) throws IOException {
+        JsonParser parser = OBJECT_MAPPER.getFactory().createParser(body.byteStream());
+        if (parser.nextToken() != JsonToken.START_ARRAY)
+            throw new IOException("Expected a json array, found " + parser.currentToken());
+        parser.nextToken();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return parser.currentToken() != null && parser.currentToken() != JsonToken.END_ARRAY;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                try {
+                    T item = OBJECT_MAPPER.readValue(parser, type);
+                    parser.nextToken();
+                    return item;
+                }
+                catch (IOException exception) {throw new UncheckedIOException(exception);}
+            }
+        };
+    }
+
+    /**
+     * Executes a blocking call on a virtual thread, or on a platform thread if virtual threads are not available
+     *
+     * @param call call to be executed
+     * @return returns a future that completes with the response
+     */
+    public static <T> CompletableFuture<Response<T>> executeOnVirtualThread(Call<T> call) {
+        return CompletableFuture.supplyAsync(() -> executeCall(call), TaskExecutors.shared());
+    }
+
+    /**
+     * Executes blocking calls concurrently, one virtual thread per call (see {@link #fanOut(List)})
+     *
+     * @param calls calls to be executed
+     * @return returns the responses, in the order of the calls
+     */
+    public static <T> List<Response<T>> fanOutCalls(List<Call<T>> calls) {
+        List<Callable<Response<T>>> tasks = new ArrayList<>(calls.size());
+        for (Call<T> call : calls) tasks.add(() -> executeCall(call));
+        return fanOut(tasks);
+    }
+
+    /**
+     * Runs tasks concurrently within a scope and waits for all of them (fan-out/fan-in).
+     * If a task fails, the remaining tasks are cancelled and the failure is rethrown.
+     * Each task runs on its own virtual thread, or on the shared platform pool if virtual threads are not available.
+     * A fan-out nested in a platform pool task runs its tasks one by one on the calling thread,
+     * since waiting on tasks queued behind the busy pool threads would deadlock the pool.
+     *
+     * @param tasks tasks to be run
+     * @return returns the task results, in the order of the tasks
+     */
+    public static <R> List<R> fanOut(List<? extends Callable<R>> tasks) {
+        ExecutorService virtualScope = virtualThreads ? TaskExecutors.newVirtualScope() : null;
+        if (virtualScope == null && TaskExecutors.onPlatformPool()) return runInline(tasks);
+        ExecutorService scope = virtualScope != null ? virtualScope : TaskExecutors.platformPool();
+        List<Future<R>> futures = new ArrayList<>(tasks.size());
+        try {
+            CompletionService<R> completionService = new ExecutorCompletionService<>(scope);
+            for (Callable<R> task : tasks) futures.add(completionService.submit(task));
+            for (int i = 0; i < tasks.size(); i++) completionService.take().get();
+            List<R> results = new ArrayList<>(tasks.size());
+            for (Future<R> future : futures) results.add(future.get());
+            return results;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new RuntimeException(e.getCause());
+        }
+        finally {
+            futures.forEach(future -> future.cancel(true));
+            if (virtualScope != null) virtualScope.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs tasks one by one on the calling thread, the first failure stops the remaining tasks
+     *
+     * @param tasks tasks to be run
+     * @return returns the task results, in the order of the tasks
+     */
+    private static <R> List<R> runInline(List<? extends Callable<R>> tasks) {
+        List<R> results = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<R> task : tasks) results.add(task.call());
+        }
+        catch (RuntimeException e) {throw e;}
+        catch (Exception e) {
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        return results;
+    }
+
+    /**
+     * Returns true if blocking calls run on virtual threads
+     */
+    public static boolean isVirtualThreadMode() {
+        return virtualThreads && TaskExecutors.VIRTUAL_FACTORY != null;
+    }
+
+    /**
+     * Sets the thread count of the platform pool, the pool is rebuilt on its next use (running tasks complete on the previous pool)
+     *
+     * @param platformParallelism number of platform threads
+     */
+    public static void setPlatformParallelism(int platformParallelism) {
+        if (platformParallelism < 1) throw new IllegalArgumentException("Parallelism must be at least 1, but was " + platformParallelism);
+        RetrofitClientFactory.platformParallelism = platformParallelism;
+    }
+
+    /**
+     * Creates virtual-thread-per-task executors reflectively, so that the library still runs on JDK 17,
+     * where a single platform pool is shared by every call instead
+     */
+    private static class TaskExecutors {
+        private static final MethodHandle VIRTUAL_FACTORY = virtualFactory();
+        private static final ExecutorService VIRTUAL_SHARED = newVirtualScope();
+        private static final ThreadLocal<Boolean> PLATFORM_WORKER = ThreadLocal.withInitial(() -> false);
+        private static ExecutorService platformPool;
+        private static int platformPoolParallelism;
+
+        private static MethodHandle virtualFactory() {
+            try {
+                MethodHandle factory = MethodHandles.publicLookup().findStatic(
+                        Executors.class,
+                        "newVirtualThreadPerTaskExecutor",
+                        MethodType.methodType(ExecutorService.class)
+                );
+                ((ExecutorService) factory.invokeExact()).shutdown(); // Fails if virtual threads are a disabled preview feature
+                return factory;
+            }
+            catch (Throwable throwable) {return null;}
+        }
+
+        /**
+         * Returns the executor shared by single calls
+         */
+        private static ExecutorService shared() {
+            return VIRTUAL_SHARED != null && virtualThreads ? VIRTUAL_SHARED : platformPool();
+        }
+
+        /**
+         * Returns a new virtual thread scope, or null if virtual threads are not available
+         */
+        private static ExecutorService newVirtualScope() {
+            if (VIRTUAL_FACTORY == null) return null;
+            try {return (ExecutorService) VIRTUAL_FACTORY.invokeExact();}
+            catch (Throwable throwable) {return null;}
+        }
+
+        /**
+         * Returns true if the current thread is a platform pool thread
+         */
+        private static boolean onPlatformPool() {
+            return PLATFORM_WORKER.get();
+        }
+
+        /**
+         * Returns the platform pool, rebuilding it if the platform parallelism has changed
+         */
+        private static synchronized ExecutorService platformPool() {
+            if (platformPool == null || platformPoolParallelism != platformParallelism) {
+                if (platformPool != null) platformPool.shutdown();
+                platformPoolParallelism = platformParallelism;
+                ThreadFactory threadFactory = runnable -> {
+                    Thread thread = new Thread(() -> {
+                        PLATFORM_WORKER.set(true);
+                        runnable.run();
+                    }, "api-call");
+                    thread.setDaemon(true);
+                    return thread;
+                };
+                platformPool = Executors.newFixedThreadPool(platformPoolParallelism, threadFactory);
+            }
+            return platformPool;
+        }
+    }
 }
@@ -5,26 +5,53 @@ import com.google.gson.Gson;
 import retrofit2.Converter;
 import retrofit2.converter.gson.GsonConverterFactory;
 import retrofit2.converter.jackson.JacksonConverterFactory;
+import retrofit2.converter.moshi.MoshiConverterFactory;
+import retrofit2.converter.protobuf.ProtoConverterFactory;
+import retrofit2.converter.scalars.ScalarsConverterFactory;
+import retrofit2.converter.simplexml.SimpleXmlConverterFactory;
+import retrofit2.converter.wire.WireConverterFactory;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
+/**
+ * Registry of converter factories for every bundled format.
+ * Factories are created once per format and shared, they are thread-safe.
+ */
+@SuppressWarnings("deprecation")
 public class ConverterFactoryFunction {
-    public static final Function<String, Converter.Factory> GSON_FACTORY = (String s) -> {
-        return GsonConverterFactory.create(new Gson());
-    };
 
-    public static final Function<String, Converter.Factory> JACKSON_FACTORY = (String s) -> {
-        return JacksonConverterFactory.create(new ObjectMapper());
-    };
+    /**
+     * Shared Gson instance of the gson converter
+     */
+    public static final Gson GSON = new Gson();
 
-    static final Map<String, Function<String, Converter.Factory>> MAP = new HashMap() {{
-        put("gson", GSON_FACTORY);
-        put("jackson", JACKSON_FACTORY);
-    }};
+    /**
+     * Shared ObjectMapper of the jackson converter, modules found on the classpath (ex: Blackbird, Afterburner, JavaTime) are registered
+     */
+    public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    public static final Function<String, Converter.Factory> GSON_FACTORY = (String s) -> GsonConverterFactory.create(GSON);
+
+    public static final Function<String, Converter.Factory> JACKSON_FACTORY = (String s) -> JacksonConverterFactory.create(OBJECT_MAPPER);
+
+    static final Map<String, Function<String, Converter.Factory>> MAP = Map.of(
+            "gson", GSON_FACTORY,
+            "jackson", JACKSON_FACTORY,
+            "scalars", (String s) -> ScalarsConverterFactory.create(),
+            "simplexml", (String s) -> SimpleXmlConverterFactory.create(),
+            "moshi", (String s) -> MoshiConverterFactory.create(),
+            "protobuf", (String s) -> ProtoConverterFactory.create(),
+            "wire", (String s) -> WireConverterFactory.create()
+    );
+
+    static final Map<String, Converter.Factory> FACTORIES = new ConcurrentHashMap<>();
 
     public static Converter.Factory getConverterAdapterFactory(final String converter) {
-        return MAP.get(converter).apply(converter);
+        Function<String, Converter.Factory> factoryFunction = MAP.get(converter);
+        if (factoryFunction == null)
+            throw new IllegalArgumentException("Unknown converter: " + converter + ", available converters: " + MAP.keySet());
+        return FACTORIES.computeIfAbsent(converter, factoryFunction);
     }
 }
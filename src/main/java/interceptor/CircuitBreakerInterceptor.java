@@ -0,0 +1,75 @@
+package interceptor;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Stops sending requests after consecutive failures (exceptions or 5xx responses), failing fast while open.
+ * Once the open duration passes, a single trial request is let through; its outcome closes or re-opens the circuit.
+ */
+public class CircuitBreakerInterceptor implements Interceptor {
+
+    public enum State {closed, open, halfOpen}
+
+    private final int failureThreshold;
+    private final long openDuration;
+    private State state = State.closed;
+    private int failures;
+    private long openedAt;
+
+    public CircuitBreakerInterceptor(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration.toNanos();
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        acquire(chain);
+        boolean success = false;
+        try {
+            Response response = chain.proceed(chain.request());
+            success = response.code() < 500;
+            return response;
+        }
+        finally {record(success);} // Any exception, checked or not, counts as a failure so that a trial request always resolves
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private synchronized void acquire(Chain chain) throws CircuitBreakerOpenException {
+        switch (state) {
+            case closed -> {}
+            case open -> {
+                if (System.nanoTime() - openedAt < openDuration)
+                    throw new CircuitBreakerOpenException("Circuit breaker is open, " + chain.request().url() + " was not called!");
+                state = State.halfOpen;
+            }
+            case halfOpen -> throw new CircuitBreakerOpenException("Circuit breaker is half open, awaiting the trial request!");
+        }
+    }
+
+    private synchronized void record(boolean success) {
+        if (success) {
+            failures = 0;
+            state = State.closed;
+        }
+        else if (state == State.halfOpen || ++failures >= failureThreshold) {
+            state = State.open;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Thrown instead of sending a request while the circuit is open
+     */
+    public static class CircuitBreakerOpenException extends IOException {
+        public CircuitBreakerOpenException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package interceptor;
+
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * Adds given headers to every request up front, instead of waiting for a 401 challenge like an authenticator
+ */
+public class HeaderInterceptor implements Interceptor {
+
+    private final Headers headers;
+
+    public HeaderInterceptor(Headers headers) {
+        this.headers = headers;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request.Builder request = chain.request().newBuilder();
+        for (String name : headers.names()) {
+            request.removeHeader(name);
+            for (String value : headers.values(name)) request.addHeader(name, value);
+        }
+        return chain.proceed(request.build());
+    }
+}
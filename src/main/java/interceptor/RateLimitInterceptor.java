@@ -0,0 +1,66 @@
+package interceptor;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+/**
+ * Client-side token bucket rate limiter, requests wait for a token before they are sent.
+ * A single instance can be shared by several clients to limit them together.
+ */
+public class RateLimitInterceptor implements Interceptor {
+
+    private final double permitsPerSecond;
+    private final double capacity;
+    private double tokens;
+    private long lastRefill = System.nanoTime();
+
+    /**
+     * @param permitsPerSecond sustained request rate
+     * @param burst maximum number of requests that can be sent at once
+     * @throws IllegalArgumentException if the rate is not positive or the burst is less than 1
+     */
+    public RateLimitInterceptor(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0) || Double.isInfinite(permitsPerSecond))
+            throw new IllegalArgumentException("Permits per second must be a positive number, but was " + permitsPerSecond);
+        if (burst < 1) throw new IllegalArgumentException("Burst must be at least 1, but was " + burst);
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = burst;
+        this.tokens = burst;
+    }
+
+    public RateLimitInterceptor(double permitsPerSecond) {
+        this(permitsPerSecond, Math.max(1, (int) permitsPerSecond));
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        long wait;
+        while ((wait = reserve()) > 0) {
+            try {Thread.sleep(Math.max(1, wait / 1_000_000));}
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a rate limit token");
+            }
+        }
+        return chain.proceed(chain.request());
+    }
+
+    /**
+     * Takes a token if available
+     *
+     * @return returns 0 if a token was taken, otherwise the nanoseconds until the next token
+     */
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerSecond / 1_000_000_000d);
+        lastRefill = now;
+        if (tokens >= 1) {
+            tokens--;
+            return 0;
+        }
+        return (long) ((1 - tokens) * 1_000_000_000d / permitsPerSecond);
+    }
+}
@@ -0,0 +1,175 @@
+package interceptor;
+
+import context.ContextStore;
+import okhttp3.*;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory cache of GET responses, for reference data that is fetched over and over within a run.
+ *
+ * <p>
+ * Successful GET responses are kept in an LRU map, keyed by url, Accept and Authorization (SHA-256 digest) headers.
+ * Bodies larger than the maximum entry size are passed through uncached, so that large or streamed bodies are not buffered.
+ * Entries younger than the time to live are served without a network call.
+ * Older entries with an ETag are revalidated with If-None-Match, a 304 response is served from the cache.
+ * Use {@link #shared()} to cache for the whole run, or an own instance cleared after each scenario to cache per scenario.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public class ResponseCacheInterceptor implements Interceptor {
+
+    /**
+     * default maximum size of a cached body (bytes)
+     */
+    public static final long DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
+
+    private final Map<String, Entry> entries;
+    private final long timeToLive;
+    private final long maxEntrySize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maxEntries maximum number of cached responses, least recently used responses are evicted first
+     * @param timeToLive duration a response is served without revalidation, zero revalidates on every request
+     */
+    public ResponseCacheInterceptor(int maxEntries, Duration timeToLive) {
+        this(maxEntries, timeToLive, DEFAULT_MAX_ENTRY_SIZE);
+    }
+
+    /**
+     * @param maxEntries maximum number of cached responses, least recently used responses are evicted first
+     * @param timeToLive duration a response is served without revalidation, zero revalidates on every request
+     * @param maxEntrySize maximum size of a cached body (bytes), larger bodies are not cached
+     */
+    public ResponseCacheInterceptor(int maxEntries, Duration timeToLive, long maxEntrySize) {
+        this.timeToLive = timeToLive.toNanos();
+        this.maxEntrySize = maxEntrySize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the run wide cache, sized by response-cache-size, response-cache-ttl (millis) and response-cache-max-entry-size (bytes) properties
+     */
+    public static ResponseCacheInterceptor shared() {
+        return Shared.INSTANCE;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!request.method().equals("GET") || Objects.requireNonNullElse(request.header("Cache-Control"), "").contains("no-store"))
+            return chain.proceed(request);
+
+        String key = keyOf(request);
+        Entry entry;
+        synchronized (entries) {entry = entries.get(key);}
+
+        if (entry != null && System.nanoTime() - entry.storedAt < timeToLive) {
+            hits.increment();
+            return entry.toResponse(request);
+        }
+        if (entry != null && entry.etag != null && request.header("If-None-Match") == null) {
+            Response response = chain.proceed(request.newBuilder().header("If-None-Match", entry.etag).build());
+            if (response.code() == 304) {
+                response.close();
+                revalidations.increment();
+                Entry refreshed = entry.refreshed();
+                synchronized (entries) {entries.put(key, refreshed);}
+                return refreshed.toResponse(request);
+            }
+            misses.increment();
+            return store(key, response);
+        }
+        misses.increment();
+        return store(key, chain.proceed(request));
+    }
+
+    private Response store(String key, Response response) throws IOException {
+        ResponseBody body = response.body();
+        if (response.code() != 200 || body == null || Objects.requireNonNullElse(response.header("Cache-Control"), "").contains("no-store"))
+            return response;
+        if (body.contentLength() > maxEntrySize) return response;
+        if (body.contentLength() < 0 && response.peekBody(maxEntrySize + 1).contentLength() > maxEntrySize) return response;
+        byte[] bytes = body.bytes();
+        Entry entry = new Entry(response.protocol(), response.message(), response.headers(), body.contentType(), bytes, response.header("ETag"), System.nanoTime());
+        synchronized (entries) {entries.put(key, entry);}
+        return response.newBuilder().body(ResponseBody.create(bytes, body.contentType())).build();
+    }
+
+    private static String keyOf(Request request) {
+        String authorization = request.header("Authorization");
+        return request.url() + "|" + request.header("Accept") + "|" + (authorization != null ? ByteString.encodeUtf8(authorization).sha256().hex() : null);
+    }
+
+    /**
+     * Removes all cached responses, call after each scenario to scope the cache per scenario
+     */
+    public void clear() {
+        synchronized (entries) {entries.clear();}
+    }
+
+    public int size() {
+        synchronized (entries) {return entries.size();}
+    }
+
+    /**
+     * Returns the number of responses served from the cache without a network call
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of responses served from the cache after a 304 revalidation
+     */
+    public long getRevalidations() {
+        return revalidations.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private record Entry(Protocol protocol, String message, Headers headers, MediaType contentType, byte[] body, String etag, long storedAt) {
+
+        Entry refreshed() {
+            return new Entry(protocol, message, headers, contentType, body, etag, System.nanoTime());
+        }
+
+        Response toResponse(Request request) {
+            long now = System.currentTimeMillis();
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(protocol)
+                    .code(200)
+                    .message(message)
+                    .headers(headers)
+                    .body(ResponseBody.create(body, contentType))
+                    .sentRequestAtMillis(now)
+                    .receivedResponseAtMillis(now)
+                    .build();
+        }
+    }
+
+    private static class Shared {
+        private static final ResponseCacheInterceptor INSTANCE = new ResponseCacheInterceptor(
+                Integer.parseInt(ContextStore.get("response-cache-size", "256")),
+                Duration.ofMillis(Long.parseLong(ContextStore.get("response-cache-ttl", "0"))),
+                Long.parseLong(ContextStore.get("response-cache-max-entry-size", String.valueOf(DEFAULT_MAX_ENTRY_SIZE)))
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package interceptor;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+
+/**
+ * Retries idempotent requests that receive a 429 or 5xx response, with exponential backoff.
+ * A {@code Retry-After} header (seconds or HTTP date) overrides the backoff delay, capped by the max delay.
+ */
+public class RetryInterceptor implements Interceptor {
+
+    static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "PUT", "DELETE", "OPTIONS", "TRACE");
+    static final Set<Integer> RETRYABLE_CODES = Set.of(429, 500, 502, 503, 504);
+
+    private final int maxRetries;
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+
+    public RetryInterceptor(int maxRetries, Duration initialDelay, Duration maxDelay) {
+        this.maxRetries = maxRetries;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+    }
+
+    public RetryInterceptor(int maxRetries) {
+        this(maxRetries, Duration.ofMillis(500), Duration.ofSeconds(30));
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Response response = chain.proceed(chain.request());
+        if (!IDEMPOTENT_METHODS.contains(chain.request().method())) return response;
+        for (int retry = 1; retry <= maxRetries && RETRYABLE_CODES.contains(response.code()); retry++) {
+            Duration delay = delay(retry, response.header("Retry-After"));
+            response.close();
+            try {Thread.sleep(delay.toMillis());}
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to retry " + chain.request().url());
+            }
+            response = chain.proceed(chain.request());
+        }
+        return response;
+    }
+
+    Duration delay(int retry, String retryAfter) {
+        Duration delay = initialDelay.multipliedBy(1L << Math.min(retry - 1, 30));
+        if (retryAfter != null) {
+            try {delay = Duration.ofSeconds(Long.parseLong(retryAfter.trim()));}
+            catch (NumberFormatException numberFormatException) {
+                try {
+                    delay = Duration.between(
+                            Instant.now(),
+                            ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant()
+                    );
+                }
+                catch (DateTimeParseException ignored) {}
+            }
+        }
+        if (delay.isNegative()) return Duration.ZERO;
+        return delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+    }
+}
@@ -0,0 +1,169 @@
+package metrics;
+
+import context.ContextStore;
+import function.ConverterFactoryFunction;
+import okhttp3.EventListener;
+import okhttp3.Request;
+import retrofit2.Invocation;
+import utils.Printer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per endpoint timing & connection metrics of API calls, recorded by {@link MetricsEventListener}.
+ *
+ * <p>
+ * Endpoints are named after the Retrofit service method of a call (ex: UserAPIClient.getUsersById),
+ * or after the request method & path with numeric and uuid segments replaced by {id} for plain OkHttp calls.
+ * The summary of the {@link #shared()} metrics is exported as json to the api-metrics-file at the end of the run.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public class CallMetrics {
+
+    private static final Printer log = new Printer(CallMetrics.class);
+
+    /**
+     * Timed phases of a call
+     */
+    public enum Phase {dns, connect, tls, ttfb, bodyRead, total}
+
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the run wide metrics, exported on shutdown
+     */
+    public static CallMetrics shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Returns a listener factory recording into these metrics, see {@link okhttp3.OkHttpClient.Builder#eventListenerFactory}
+     */
+    public EventListener.Factory listenerFactory() {
+        return call -> new MetricsEventListener(this, endpointOf(call.request()));
+    }
+
+    public EndpointMetrics endpoint(String endpoint) {
+        return endpoints.computeIfAbsent(endpoint, name -> new EndpointMetrics());
+    }
+
+    public Set<String> getEndpoints() {
+        return Collections.unmodifiableSet(endpoints.keySet());
+    }
+
+    public void clear() {
+        endpoints.clear();
+    }
+
+    /**
+     * Returns the summary of every endpoint, sorted by endpoint name
+     */
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new TreeMap<>();
+        endpoints.forEach((endpoint, metrics) -> summary.put(endpoint, metrics.summary()));
+        return summary;
+    }
+
+    /**
+     * Writes the summary as json
+     *
+     * @param file target file, parent directories are created
+     */
+    public void export(Path file) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        Files.writeString(file, ConverterFactoryFunction.GSON.newBuilder().setPrettyPrinting().create().toJson(summary()));
+    }
+
+    static String endpointOf(Request request) {
+        Invocation invocation = request.tag(Invocation.class);
+        if (invocation != null)
+            return invocation.method().getDeclaringClass().getSimpleName() + "." + invocation.method().getName();
+        StringBuilder path = new StringBuilder();
+        for (String segment : request.url().pathSegments()) {
+            path.append('/');
+            path.append(segment.matches("\\d+|[0-9a-fA-F]{8}(-[0-9a-fA-F]{4}){3}-[0-9a-fA-F]{12}") ? "{id}" : segment);
+        }
+        return request.method() + " " + request.url().host() + path;
+    }
+
+    /**
+     * Metrics of a single endpoint
+     */
+    public static class EndpointMetrics {
+        private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder connectionsAcquired = new LongAdder();
+        private final LongAdder connectionsReused = new LongAdder();
+
+        EndpointMetrics() {
+            for (Phase phase : Phase.values()) histograms.put(phase, new LatencyHistogram());
+        }
+
+        public LatencyHistogram histogram(Phase phase) {
+            return histograms.get(phase);
+        }
+
+        void record(Phase phase, long nanos) {
+            histograms.get(phase).record(nanos);
+        }
+
+        void callEnded(boolean failed) {
+            calls.increment();
+            if (failed) failures.increment();
+        }
+
+        void connectionAcquired(boolean reused) {
+            connectionsAcquired.increment();
+            if (reused) connectionsReused.increment();
+        }
+
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        /**
+         * Returns the ratio of connections taken from the pool, rather than newly connected
+         */
+        public double getConnectionReuseRate() {
+            long acquired = connectionsAcquired.sum();
+            return acquired == 0 ? 0 : (double) connectionsReused.sum() / acquired;
+        }
+
+        public Map<String, Object> summary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("calls", getCalls());
+            summary.put("failures", getFailures());
+            summary.put("connectionReuseRate", getConnectionReuseRate());
+            for (Phase phase : Phase.values())
+                if (histograms.get(phase).getCount() > 0) summary.put(phase.name(), histograms.get(phase).summary());
+            return summary;
+        }
+    }
+
+    private static class Shared {
+        private static final CallMetrics INSTANCE = new CallMetrics();
+
+        static {
+            Path file = Path.of(ContextStore.get("api-metrics-file", "target/api-metrics.json"));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                if (INSTANCE.endpoints.isEmpty()) return;
+                try {
+                    INSTANCE.export(file);
+                    log.info("API metrics are exported to " + file.toAbsolutePath());
+                }
+                catch (IOException exception) {log.warning("API metrics could not be exported: " + exception.getMessage());}
+            }, "api-metrics-export"));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free log-linear latency histogram (HdrHistogram style) in microseconds.
+ * Each power of two range is split into {@value #SUB_BUCKETS} linear buckets, keeping the relative error under 12.5%.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAGNITUDES = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(MAGNITUDES * SUB_BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration
+     *
+     * @param nanos duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+        counts.incrementAndGet(indexOf(micros));
+        total.increment();
+        sum.add(micros);
+        min.accumulateAndGet(micros, Math::min);
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    public long getCount() {
+        return total.sum();
+    }
+
+    /**
+     * Returns the value at a given percentile in microseconds, the upper bound of its bucket
+     *
+     * @param percentile percentile between 0 & 100
+     */
+    public long percentile(double percentile) {
+        long count = getCount();
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int index = 0; index < counts.length(); index++) {
+            seen += counts.get(index);
+            if (seen >= rank) return Math.min(upperBoundOf(index), max.get());
+        }
+        return max.get();
+    }
+
+    /**
+     * Returns count, min, mean, max & percentiles in milliseconds
+     */
+    public Map<String, Object> summary() {
+        long count = getCount();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", count);
+        summary.put("minMs", count == 0 ? 0 : millis(min.get()));
+        summary.put("meanMs", count == 0 ? 0 : millis(sum.sum() / count));
+        summary.put("p50Ms", millis(percentile(50)));
+        summary.put("p90Ms", millis(percentile(90)));
+        summary.put("p99Ms", millis(percentile(99)));
+        summary.put("maxMs", millis(max.get()));
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000d;
+    }
+
+    static int indexOf(long micros) {
+        if (micros < SUB_BUCKETS) return (int) micros;
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS + 1;
+        if (magnitude >= MAGNITUDES) return MAGNITUDES * SUB_BUCKETS - 1;
+        int subBucket = (int) (micros >>> (magnitude - 1)) & (SUB_BUCKETS - 1);
+        return magnitude * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int index) {
+        int magnitude = index / SUB_BUCKETS, subBucket = index % SUB_BUCKETS;
+        if (magnitude == 0) return subBucket;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (magnitude - 1)) - 1;
+    }
+}
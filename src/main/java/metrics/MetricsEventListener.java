@@ -0,0 +1,103 @@
+package metrics;
+
+import okhttp3.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+/**
+ * Records the phase timings of a single call, a new listener is created per call by {@link CallMetrics#listenerFactory()}.
+ * Retried or redirected requests of a call are recorded separately.
+ */
+public class MetricsEventListener extends EventListener {
+
+    private final CallMetrics.EndpointMetrics metrics;
+    private long callStart;
+    private long dnsStart;
+    private long connectStart;
+    private long secureConnectStart;
+    private long requestStart;
+    private long responseBodyStart;
+    private boolean connected;
+
+    MetricsEventListener(CallMetrics callMetrics, String endpoint) {
+        this.metrics = callMetrics.endpoint(endpoint);
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        metrics.record(CallMetrics.Phase.dns, System.nanoTime() - dnsStart);
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectStart = System.nanoTime();
+        connected = true;
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        secureConnectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        metrics.record(CallMetrics.Phase.tls, System.nanoTime() - secureConnectStart);
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        metrics.record(CallMetrics.Phase.connect, System.nanoTime() - connectStart);
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        metrics.connectionAcquired(!connected);
+        connected = false;
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        requestStart = System.nanoTime();
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        metrics.record(CallMetrics.Phase.ttfb, System.nanoTime() - requestStart);
+    }
+
+    @Override
+    public void responseBodyStart(Call call) {
+        responseBodyStart = System.nanoTime();
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        metrics.record(CallMetrics.Phase.bodyRead, System.nanoTime() - responseBodyStart);
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        metrics.record(CallMetrics.Phase.total, System.nanoTime() - callStart);
+        metrics.callEnded(false);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        metrics.record(CallMetrics.Phase.total, System.nanoTime() - callStart);
+        metrics.callEnded(true);
+    }
+}
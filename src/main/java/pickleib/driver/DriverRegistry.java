@@ -0,0 +1,143 @@
+package pickleib.driver;
+
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Keeps driver sessions per execution scope, so that parallel scenarios within a single JVM
+ * resolve their own driver instead of a shared static one.
+ *
+ * <p>
+ * An execution scope is the current thread by default. Scenario hooks can bind a thread to a named scope
+ * via {@link #openScope(String)} (e.g. the scenario id), and release it via {@link #closeScope()}.
+ * A scope without a session never borrows the session of another scope: the fallback is only used until a session is registered,
+ * after that such a scope resolves to null, so that objects built before a scope initializes its driver do not fail on construction.
+ * Values that belong to a session (ex: interactions built on its driver) can be kept along with it via {@link #scoped(Object, Function)}.
+ * </p>
+ *
+ * @param <Driver> driver type
+ *
+ * @since 1.9.9
+ */
+public class DriverRegistry<Driver extends RemoteWebDriver> {
+
+    private static final ThreadLocal<String> scope = new ThreadLocal<>();
+
+    private final Map<String, Session<Driver>> sessions = new ConcurrentHashMap<>();
+    private volatile boolean registered;
+
+    /**
+     * Binds the current thread to a named execution scope (ex: scenario id)
+     *
+     * @param scopeName scope name
+     */
+    public static void openScope(String scopeName){
+        scope.set(scopeName);
+    }
+
+    /**
+     * Unbinds the current thread from its named execution scope, falling back to the thread scope
+     */
+    public static void closeScope(){
+        scope.remove();
+    }
+
+    /**
+     * Returns the execution scope of the current thread
+     *
+     * @return returns the scope name
+     */
+    public static String currentScope(){
+        String scopeName = scope.get();
+        return scopeName != null ? scopeName : "thread-" + Thread.currentThread().getId();
+    }
+
+    /**
+     * Registers a driver session for the current execution scope
+     *
+     * @param driver session driver
+     * @param wait session wait
+     */
+    public void register(Driver driver, WebDriverWait wait){
+        sessions.put(currentScope(), new Session<>(driver, wait, new ConcurrentHashMap<>()));
+        registered = true;
+    }
+
+    /**
+     * Removes the driver session of the current execution scope
+     *
+     * @return returns the removed driver, or null if the scope has no session
+     */
+    public Driver unregister(){
+        Session<Driver> session = sessions.remove(currentScope());
+        return session != null ? session.driver() : null;
+    }
+
+    /**
+     * Returns the driver of the current execution scope
+     *
+     * @param fallback driver returned if no session was ever registered
+     * @return returns the driver, or null if the current scope has no session while sessions are registered
+     */
+    public Driver getDriver(Driver fallback){
+        Session<Driver> session = sessions.get(currentScope());
+        if (session != null) return session.driver();
+        return registered ? null : fallback;
+    }
+
+    /**
+     * Returns the wait of the current execution scope
+     *
+     * @param fallback wait returned if no session was ever registered
+     * @return returns the wait, or null if the current scope has no session while sessions are registered
+     */
+    public WebDriverWait getWait(WebDriverWait fallback){
+        Session<Driver> session = sessions.get(currentScope());
+        if (session != null) return session.driverWait();
+        return registered ? null : fallback;
+    }
+
+    /**
+     * Returns a value bound to the session of the current execution scope, created on first use and dropped with the session
+     *
+     * @param key value key
+     * @param factory creates the value from the session driver
+     * @return returns the value, or null if the current scope has no session
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T scoped(Object key, Function<Driver, T> factory){
+        Session<Driver> session = sessions.get(currentScope());
+        if (session == null) return null;
+        return (T) session.values().computeIfAbsent(key, k -> factory.apply(session.driver()));
+    }
+
+    /**
+     * Returns true if a session was ever registered, meaning the static fallbacks are no longer used
+     */
+    public boolean hasRegistered(){
+        return registered;
+    }
+
+    /**
+     * Returns true if the current execution scope has a registered session
+     */
+    public boolean hasSession(){
+        return sessions.containsKey(currentScope());
+    }
+
+    /**
+     * Returns the drivers of all execution scopes
+     *
+     * @return returns the registered drivers
+     */
+    public List<Driver> getDrivers(){
+        return sessions.values().stream().map(Session::driver).toList();
+    }
+
+    record Session<Driver>(Driver driver, WebDriverWait driverWait, Map<Object, Object> values) {}
+}
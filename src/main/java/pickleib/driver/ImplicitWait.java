@@ -0,0 +1,144 @@
+package pickleib.driver;
+
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Tracks the implicit wait of each driver session on the client side, so that a timeout command is sent
+ * only when the effective value actually changes.
+ *
+ * <p>
+ * A scope overrides the implicit wait until it is closed, scopes can be nested:
+ * <pre>{@code
+ * try (ImplicitWait scope = ImplicitWait.scope(driver, Duration.ofMillis(500))) {
+ *     // polling with a short implicit wait
+ * }
+ * }</pre>
+ * Implicit waits should be set via {@link #set(WebDriver, Duration)} rather than the driver directly,
+ * otherwise the tracked value goes out of sync.
+ * </p>
+ *
+ * @since 1.9.9
+ */
+@SuppressWarnings("unused")
+public class ImplicitWait implements AutoCloseable {
+
+    /**
+     * Implicit wait states per driver session. Sessions are weakly referenced, so quit drivers are collected.
+     */
+    private static final Map<WebDriver, State> states = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final WebDriver driver;
+    private final State state;
+    private boolean closed;
+
+    private ImplicitWait(WebDriver driver, State state) {
+        this.driver = driver;
+        this.state = state;
+    }
+
+    /**
+     * Sets the base implicit wait of a driver, a command is sent only if the value changes
+     *
+     * @param driver target driver
+     * @param timeout implicit wait
+     */
+    public static void set(WebDriver driver, Duration timeout){
+        State state = stateOf(driver, timeout);
+        synchronized (state) {
+            if (state.overrides.isEmpty()) state.apply(driver, timeout);
+            else { // Restored once the open scopes are closed
+                state.overrides.removeLast();
+                state.overrides.addLast(timeout);
+            }
+        }
+    }
+
+    /**
+     * Drops the open scopes of a driver and applies its base implicit wait, the command is sent even if the tracked value is unchanged,
+     * in case the driver was configured directly
+     *
+     * @param driver target driver
+     * @param timeout base implicit wait
+     */
+    public static void restore(WebDriver driver, Duration timeout){
+        State state = stateOf(driver, timeout);
+        synchronized (state) {
+            state.overrides.clear();
+            state.applied = null;
+            state.apply(driver, timeout);
+        }
+    }
+
+    /**
+     * Opens a scope that overrides the implicit wait of a driver until it is closed
+     *
+     * @param driver target driver
+     * @param timeout implicit wait within the scope
+     * @return returns the scope
+     */
+    public static ImplicitWait scope(WebDriver driver, Duration timeout){
+        State state = stateOf(driver, null);
+        synchronized (state) {
+            state.overrides.push(state.applied);
+            state.apply(driver, timeout);
+        }
+        return new ImplicitWait(driver, state);
+    }
+
+    /**
+     * Returns the tracked implicit wait of a driver
+     *
+     * @param driver target driver
+     * @return returns the implicit wait
+     */
+    public static Duration get(WebDriver driver){
+        return stateOf(driver, null).applied;
+    }
+
+    /**
+     * Restores the implicit wait that was effective before this scope was opened,
+     * scopes dropped by {@link #restore(WebDriver, Duration)} leave the restored value in place
+     */
+    @Override
+    public void close() {
+        synchronized (state) {
+            if (closed) return;
+            closed = true;
+            Duration previous = state.overrides.poll();
+            if (previous != null) state.apply(driver, previous);
+        }
+    }
+
+    private static State stateOf(WebDriver driver, Duration initialTimeout){
+        synchronized (states) {
+            return states.computeIfAbsent(driver, session -> new State(
+                    initialTimeout != null ? null : session.manage().timeouts().getImplicitWaitTimeout()
+            ));
+        }
+    }
+
+    /**
+     * Implicit wait state of a single driver session
+     */
+    private static class State {
+        private final Deque<Duration> overrides = new ArrayDeque<>();
+        private Duration applied;
+
+        State(Duration applied) {
+            this.applied = applied;
+        }
+
+        void apply(WebDriver driver, Duration timeout){
+            if (timeout.equals(applied)) return;
+            driver.manage().timeouts().implicitlyWait(timeout);
+            applied = timeout;
+        }
+    }
+}
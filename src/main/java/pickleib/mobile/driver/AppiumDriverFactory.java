@@ -5,6 +5,7 @@ import io.appium.java_client.AppiumDriver;
 import org.json.simple.JSONObject;
 import org.openqa.selenium.remote.DesiredCapabilities;
 import pickleib.driver.DriverFactory;
+import pickleib.driver.ImplicitWait;
 import utils.FileUtilities;
 import utils.Printer;
 import java.net.URL;
@@ -32,7 +33,7 @@ public class AppiumDriverFactory implements DriverFactory {
             else url = service.getUrl();
 
             AppiumDriver driver = new AppiumDriver(url, desiredCapabilities);
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(15));
+            ImplicitWait.set(driver, Duration.ofSeconds(15));
             log.important(deviceName + strUtils.markup(GRAY, " was selected"));
             return driver;
         }
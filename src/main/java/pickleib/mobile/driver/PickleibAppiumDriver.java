@@ -4,11 +4,14 @@ import context.ContextStore;
 import io.appium.java_client.AppiumDriver;
 import org.json.simple.JSONObject;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import pickleib.driver.DriverRegistry;
 import pickleib.utilities.PropertyLoader;
+import pickleib.utilities.page.repository.PageRepositoryIndex;
 import properties.PropertiesReader;
 import utils.*;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.time.Duration;
 
 @SuppressWarnings("unused")
 public class PickleibAppiumDriver {
@@ -18,6 +21,11 @@ public class PickleibAppiumDriver {
 	public static AppiumDriver driver;
 	public static WebDriverWait wait;
 
+	/**
+	 * Driver sessions per execution scope
+	 */
+	public static final DriverRegistry<AppiumDriver> registry = new DriverRegistry<>();
+
 	private static final PropertiesReader reader = new PropertiesReader("properties-from-pom.properties");
 	private static final StringUtilities strUtils = new StringUtilities();
 	private static final Printer log = new Printer(PickleibAppiumDriver.class);
@@ -46,14 +54,43 @@ public class PickleibAppiumDriver {
 		String directory = ContextStore.get("config", "src/test/resources/configurations");
 
 		JSONObject json = AppiumDriverFactory.jsonUtils.parseJSONFile(directory+"/"+device+".json");
-		driver = AppiumDriverFactory.getDriver(strUtils.firstLetterCapped(device), json);
+		AppiumDriver session = AppiumDriverFactory.getDriver(strUtils.firstLetterCapped(device), json);
+		WebDriverWait sessionWait = new WebDriverWait(session, Duration.ofMillis(Long.parseLong(ContextStore.get("driver-timeout", "15000"))));
+		registry.register(session, sessionWait);
+		driver = session;
+		wait = sessionWait;
+	}
+
+	/**
+	 * Returns the driver of the current execution scope, falls back to the static driver until a session is registered
+	 *
+	 * @return returns the driver, or null if the scope has not initialized a driver yet
+	 */
+	public static AppiumDriver get(){
+		return registry.getDriver(driver);
+	}
+
+	/**
+	 * Returns the wait of the current execution scope, falls back to the static wait until a session is registered
+	 *
+	 * @return returns the wait, or null if the scope has not initialized a driver yet
+	 */
+	public static WebDriverWait getWait(){
+		return registry.getWait(wait);
 	}
 
 	public static void terminate(){
 		log.info("Finalizing driver...");
 		try {
-			driver.quit();
-			if (ServiceFactory.service != null) ServiceFactory.service.stop(); //TODO: Verify socket & log success
+			AppiumDriver session = registry.unregister();
+			if (session == null && !registry.hasRegistered()) session = driver;
+			if (session == null) {
+				log.warning("No driver session is registered for the " + DriverRegistry.currentScope() + " scope!");
+				return;
+			}
+			PageRepositoryIndex.evict(session);
+			session.quit();
+			if (ServiceFactory.service != null && registry.getDrivers().isEmpty()) ServiceFactory.service.stop(); //TODO: Verify socket & log success
 		}
 		catch (Exception ignored){}
 	}
@@ -33,9 +33,9 @@ public class MobileInteractions extends MobileUtilities implements Interactions
     }
 
     public MobileInteractions(){
-        super(PickleibAppiumDriver.driver);
-        this.driver = PickleibAppiumDriver.driver;
-        this.wait = PickleibAppiumDriver.wait;
+        super(PickleibAppiumDriver.get());
+        this.driver = PickleibAppiumDriver.get();
+        this.wait = PickleibAppiumDriver.getWait();
         interact = new ElementInteractions(
                 driver,
                 wait
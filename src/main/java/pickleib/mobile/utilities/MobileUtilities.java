@@ -26,10 +26,10 @@ public abstract class MobileUtilities extends Utilities {
      *
      */
     protected MobileUtilities(){
-        super(PickleibAppiumDriver.driver);
+        super(PickleibAppiumDriver.get());
         PageFactory.initElements(
                 new AppiumFieldDecorator(
-                        PickleibAppiumDriver.driver,
+                        PickleibAppiumDriver.get(),
                         Duration.ofSeconds(
                                 Long.parseLong(ContextStore.get("element-timeout", "15000"))/1000
                         )
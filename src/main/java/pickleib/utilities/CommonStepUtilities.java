@@ -44,26 +44,22 @@ public class CommonStepUtilities<ObjectRepository extends PageRepository> {
      */
     public CommonStepUtilities(Class<ObjectRepository> objectRepositoryClass) {
 
-        webObjectModel = new ElementAcquisition.PageObjectModel<>(
-                PickleibWebDriver.driver,
-                objectRepositoryClass
-        );
-        mobileObjectModel = new ElementAcquisition.PageObjectModel<>(
-                PickleibAppiumDriver.driver,
-                objectRepositoryClass
-        );
         webReflections = new ElementAcquisition.Reflections<>(
-                PickleibWebDriver.driver,
+                PickleibWebDriver::get,
                 objectRepositoryClass
         );
         mobileReflections = new ElementAcquisition.Reflections<>(
-                PickleibAppiumDriver.driver,
+                PickleibAppiumDriver::get,
                 objectRepositoryClass
         );
+        webObjectModel = new ElementAcquisition.PageObjectModel<>(webReflections);
+        mobileObjectModel = new ElementAcquisition.PageObjectModel<>(mobileReflections);
     }
 
     /**
      * Retrieves the appropriate element interactions based on the given driver type.
+     * Interactions are kept per driver session of the current execution scope (see {@link pickleib.driver.DriverRegistry#scoped}),
+     * the instance fields are used (and re-created if the driver has changed) only until a session is registered.
      *
      * @param driverType The type of the driver (Web or Mobile).
      * @return The element interactions for the specified driver type.
@@ -72,10 +68,20 @@ public class CommonStepUtilities<ObjectRepository extends PageRepository> {
         if (!StringUtilities.isBlank(driverType))
             switch (driverType) {
                 case Web -> {
-                    return webInteractions;
+                    WebInteractions interactions = PickleibWebDriver.registry.scoped(WebInteractions.class, driver -> new WebInteractions());
+                    if (interactions != null) return interactions;
+                    synchronized (this) {
+                        if (webInteractions.driver != PickleibWebDriver.get()) webInteractions = new WebInteractions();
+                        return webInteractions;
+                    }
                 }
                 case Mobile -> {
-                    return mobileInteractions;
+                    MobileInteractions interactions = PickleibAppiumDriver.registry.scoped(MobileInteractions.class, driver -> new MobileInteractions());
+                    if (interactions != null) return interactions;
+                    synchronized (this) {
+                        if (mobileInteractions.driver != PickleibAppiumDriver.get()) mobileInteractions = new MobileInteractions();
+                        return mobileInteractions;
+                    }
                 }
             }
         else return getInteractions(defaultPlatform);
@@ -14,20 +14,29 @@ import org.openqa.selenium.remote.RemoteExecuteMethod;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.html5.RemoteWebStorage;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import pickleib.driver.ImplicitWait;
 import pickleib.enums.ElementState;
 import pickleib.exceptions.PickleibException;
+import pickleib.utilities.element.ElementSnapshot;
+import pickleib.utilities.element.FormFiller;
+import pickleib.utilities.element.InputClearer;
+import pickleib.utilities.polling.Invocation;
+import pickleib.utilities.polling.Poller;
+import pickleib.utilities.polling.PollingResult;
 import pickleib.utilities.screenshot.ScreenCaptureUtility;
 import collections.Bundle;
+import collections.Pair;
 import utils.*;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.function.BiPredicate;
 
 import static pickleib.enums.ElementState.*;
 import static pickleib.utilities.element.ElementAcquisition.*;
-import static pickleib.web.driver.WebDriverFactory.getDriverTimeout;
 import static utils.StringUtilities.Color.*;
 import static utils.StringUtilities.*;
 
@@ -96,38 +105,19 @@ public abstract class Utilities {
      * @param scroller  The {@code ScrollFunction} for scrolling before clicking. If {@code null}, no scrolling is performed.
      * @throws PickleibException If the element is not clickable after the retry attempts, a {@code PickleibException} is thrown
      *                          with the last caught WebDriver exception.
-     */ //TODO: clickElement should use iterativeConditionalInvocation() instead of iterating in itself. (same for other similar methods).
+     */
     protected void clickElement(WebElement element, ScrollFunction scroller){
-        long initialTime = System.currentTimeMillis();
-        WebDriverException caughtException = null;
-        int counter = 0;
-        do {
-            try {
-                driver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
-                if (counter > 0 && scroller != null) clickTowards(scroller.scroll(element));
+        try (ImplicitWait scope = ImplicitWait.scope(driver, Duration.ofMillis(500))) {
+            iterativeConditionalInvocation(statistics -> {
+                if (statistics.getFailures() > 0 && scroller != null) clickTowards(scroller.scroll(element));
                 else if (scroller != null) scroller.scroll(element).click();
                 else element.click();
-                return;
-            }
-            catch (WebDriverException webDriverException){
-                if (counter == 0) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException;
-                }
-                else if (!webDriverException.getClass().getName().equals(caughtException.getClass().getName())){
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException;
-                }
-                counter++;
-            }
-            finally {
-                driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(getDriverTimeout()));
-            }
+                return true;
+            }).orElseThrow(statistics -> {
+                log.warning(statistics.getLastException().getMessage());
+                return new PickleibException(statistics.getLastException());
+            });
         }
-        while (!(System.currentTimeMillis() - initialTime > elementTimeout));
-        if (counter > 0) log.warning("Iterated " + counter + " time(s)!");
-        log.warning(caughtException.getMessage());
-        throw new PickleibException(caughtException);
     }
 
     /**
@@ -341,66 +331,48 @@ public abstract class Utilities {
      * @param element target element
      * @param state expected state
      * @return returns true if an element is in the expected state
-     */ //TODO: elementIs should use iterativeConditionalInvocation() instead of iterating in itself. (same for other similar methods).
+     */
     protected Boolean elementIs(WebElement element, @NotNull ElementState state){
-        long initialTime = System.currentTimeMillis();
-        String caughtException = null;
-        boolean timeout;
-        boolean condition = false;
-        boolean negativeCheck = false;
-        int counter = 0;
-        do { //TODO: Replace this with iterativeConditionalInvocation
-            if (condition || (counter > 1 && negativeCheck)) return true;
-            try {
-                driver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
-                switch (state) {
-                    case enabled -> {
-                        negativeCheck = false;
-                        condition = element.isEnabled();
-                    }
-                    case displayed -> {
-                        negativeCheck = false;
-                        condition = element.isDisplayed();
-                    }
-                    case selected -> {
-                        negativeCheck = false;
-                        condition = element.isSelected();
-                    }
-                    case disabled -> {
-                        negativeCheck = true;
-                        condition = !element.isEnabled();
-                    }
-                    case unselected -> {
-                        negativeCheck = true;
-                        condition = !element.isSelected();
-                    }
-                    case absent -> {
-                        negativeCheck = true;
-                        condition = !element.isDisplayed();
-                    }
-                    default -> throw new EnumConstantNotPresentException(ElementState.class, state.name());
-                }
-            }
-            catch (WebDriverException webDriverException){
-                if (counter == 0) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
+        boolean negativeCheck = switch (state) {
+            case disabled, unselected, absent -> true;
+            default -> false;
+        };
+        try (ImplicitWait scope = ImplicitWait.scope(driver, Duration.ofMillis(500))) {
+            return iterativeConditionalInvocation(statistics -> {
+                if (statistics.getFailures() > 1 && negativeCheck) return true;
+                try {
+                    boolean condition = switch (state) {
+                        case enabled -> element.isEnabled();
+                        case displayed -> element.isDisplayed();
+                        case selected -> element.isSelected();
+                        case disabled -> !element.isEnabled();
+                        case unselected -> !element.isSelected();
+                        case absent -> !element.isDisplayed();
+                    };
+                    return condition ? true : null;
                 }
-                else if (!webDriverException.getClass().getName().equals(caughtException)){
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
+                catch (StaleElementReferenceException staleElementException){
+                    if (state.equals(absent)) return true;
+                    throw staleElementException;
                 }
-                else if (state.equals(absent) && webDriverException.getClass().getName().equals("StaleElementReferenceException"))
-                    return true;
-                counter++;
-            }
-            finally {
-                driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(getDriverTimeout()));
-            }
+            }).orElse(false);
         }
-        while (!(System.currentTimeMillis() - initialTime > elementTimeout));
-        if (counter > 0) log.warning("Iterated " + counter + " time(s)!");
-        return false;
+    }
+
+    /**
+     * Repeats a given invocation until it returns a non-null result or the element timeout is reached.
+     *
+     * <p>
+     * Attempts are spaced out by the backoff strategy configured via the polling-strategy property,
+     * web driver exceptions are retried unless the driver session is lost.
+     * </p>
+     *
+     * @param invocation attempt to be repeated, returns null if its condition is not satisfied yet
+     * @return returns the result of the successful attempt along with the attempt statistics
+     * @param <Result> result type
+     */
+    protected <Result> PollingResult<Result> iterativeConditionalInvocation(Invocation<Result> invocation){
+        return Poller.fromContext(elementTimeout, log).poll(invocation);
     }
 
     /**
@@ -438,9 +410,7 @@ public abstract class Utilities {
      * @param element target element
      */
     protected WebElement clearInputField(@NotNull WebElement element){
-        int textLength = element.getAttribute("value").length();
-        for(int i = 0; i < textLength; i++){element.sendKeys(Keys.BACK_SPACE);}
-        return element;
+        return InputClearer.clear(driver, element);
     }
 
     /**
@@ -828,6 +798,11 @@ public abstract class Utilities {
      *
      * Verify the text of an element from the list on the {page name}
      *
+     * <p>
+     * Texts are read from {@link ElementSnapshot#text()} in a single script call, which approximates {@link WebElement#getText()}
+     * (see {@link pickleib.utilities.element.ElementListScanner}), drivers that cannot execute scripts are verified against getText.
+     * </p>
+     *
      * @param pageName specified page instance name
      */
     public void verifyListedElementText(
@@ -843,12 +818,57 @@ public abstract class Utilities {
                     highlighted(GRAY, " with the text: ") +
                     highlighted(BLUE, expectedText)
             );
-            if (!expectedText.equals(bundle.alpha().getText()))
-                throw new PickleibException("The " + bundle.alpha().getText() + " does not contain text '");
-            log.success("Text of the element" + bundle.alpha().getText() + " was verified!");
+        }
+        List<ElementSnapshot> snapshots = snapshotUntil(
+                bundles.stream().map(Bundle::alpha).toList(),
+                (index, snapshot) -> bundles.get(index).theta().equals(snapshot.text())
+        );
+        for (int index = 0; index < bundles.size(); index++) {
+            String actualText = snapshots.get(index).text();
+            if (!bundles.get(index).theta().equals(actualText))
+                throw new PickleibException("The " + actualText + " does not contain text '" + bundles.get(index).theta() + "'");
+            log.success("Text of the element " + actualText + " was verified!");
         }
     }
 
+    /**
+     * Takes the snapshots of given elements in a single round trip, re-taking only the snapshots that do not
+     * satisfy a condition until they do or the element timeout is reached
+     *
+     * @param elements target elements
+     * @param condition condition of the snapshot at a given index
+     * @param attributeNames attributes to be captured
+     * @return returns the latest snapshots, in the order of the elements
+     * @throws PickleibException if no snapshot could be taken within the element timeout, including the last caught exception
+     */
+    protected List<ElementSnapshot> snapshotUntil(
+            List<? extends WebElement> elements,
+            BiPredicate<Integer, ElementSnapshot> condition,
+            String... attributeNames){
+        List<ElementSnapshot> snapshots = new ArrayList<>();
+        PollingResult<Boolean> result = iterativeConditionalInvocation(statistics -> {
+            if (snapshots.isEmpty()) snapshots.addAll(ElementSnapshot.of(elements, attributeNames));
+            else {
+                List<Integer> failing = failingSnapshots(snapshots, condition);
+                List<ElementSnapshot> retaken = ElementSnapshot.of(failing.stream().map(elements::get).toList(), attributeNames);
+                for (int i = 0; i < failing.size(); i++) snapshots.set(failing.get(i), retaken.get(i));
+            }
+            return failingSnapshots(snapshots, condition).isEmpty() ? true : null;
+        });
+        if (snapshots.size() < elements.size()) result.orElseThrow(statistics -> {
+            log.warning(statistics.getLastException().getMessage());
+            return new PickleibException(statistics.getLastException());
+        });
+        return snapshots;
+    }
+
+    private static List<Integer> failingSnapshots(List<ElementSnapshot> snapshots, BiPredicate<Integer, ElementSnapshot> condition){
+        List<Integer> failing = new ArrayList<>();
+        for (int index = 0; index < snapshots.size(); index++)
+            if (!condition.test(index, snapshots.get(index))) failing.add(index);
+        return failing;
+    }
+
     /**
      *
      * Fill form input on the {page name}
@@ -857,8 +877,8 @@ public abstract class Utilities {
      * @param pageName specified page instance name
      */
     public void fillInputForm(List<Bundle<WebElement, String, String>> bundles, String pageName){
-        String inputName;
-        String input;
+        FormFiller formFiller = new FormFiller(driver, elementTimeout, log);
+        List<Pair<WebElement, String>> fields = new ArrayList<>();
         for (Bundle<WebElement, String, String> bundle : bundles) {
             log.info("Filling " +
                     highlighted(BLUE, bundle.theta()) +
@@ -868,11 +888,13 @@ public abstract class Utilities {
                     highlighted(BLUE, bundle.beta())
             );
             pageName = firstLetterDeCapped(pageName);
-            clearFillInput(bundle.alpha(), //Input Element
+            if (formFiller.isPipelined()) fields.add(new Pair<>(bundle.alpha(), contextCheck(bundle.beta())));
+            else clearFillInput(bundle.alpha(), //Input Element
                     bundle.beta(), //Input Text
                     true
             );
         }
+        formFiller.fill(fields, true);
     }
 
     /**
@@ -888,37 +910,19 @@ public abstract class Utilities {
             String attributeName,
             String attributeValue) {
 
-        long initialTime = System.currentTimeMillis();
-        String caughtException = null;
-        int counter = 0;
-        attributeValue = contextCheck(attributeValue);
-        do {
-            try {
-                if (Objects.equals(element.getAttribute(attributeName), attributeValue))
-                    return element.getAttribute(attributeName).contains(attributeValue);
-            }
-            catch (WebDriverException webDriverException){
-                if (counter == 0) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                }
-                else if (!webDriverException.getClass().getName().equals(caughtException)){
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                }
-                waitFor(0.5);
-                counter++;
-            }
-        }
-        while (!(System.currentTimeMillis() - initialTime > elementTimeout));
-        if (counter > 0) log.warning("Iterated " + counter + " time(s)!");
+        String expectedValue = contextCheck(attributeValue);
+        PollingResult<Boolean> result = iterativeConditionalInvocation(statistics ->
+                Objects.equals(element.getAttribute(attributeName), expectedValue) ? true : null
+        );
+        if (result.isSuccessful()) return true;
         log.warning("Element does not contain " +
                 highlighted(BLUE, attributeName) +
                 highlighted(GRAY, " -> ") +
-                highlighted(BLUE, attributeValue) +
+                highlighted(BLUE, expectedValue) +
                 highlighted(GRAY, " attribute pair.")
         );
-        log.warning(caughtException);
+        if (result.statistics().getLastException() != null)
+            log.warning(result.statistics().getLastException().getClass().getName());
         return false;
     }
 
@@ -934,34 +938,19 @@ public abstract class Utilities {
             String attributeName,
             String value) {
 
-        long initialTime = System.currentTimeMillis();
-        String caughtException = null;
-        int counter = 0;
-        value = contextCheck(value);
-        do {
-            try {
-                return elementName.getAttribute(attributeName).contains(value);
-            } catch (WebDriverException webDriverException) {
-                if (counter == 0) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                } else if (!webDriverException.getClass().getName().equals(caughtException)) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                }
-                waitFor(0.5);
-                counter++;
-            }
-        }
-        while (!(System.currentTimeMillis() - initialTime > elementTimeout));
-        if (counter > 0) log.warning("Iterated " + counter + " time(s)!");
+        String expectedValue = contextCheck(value);
+        PollingResult<Boolean> result = iterativeConditionalInvocation(statistics ->
+                elementName.getAttribute(attributeName).contains(expectedValue)
+        );
+        if (result.isSuccessful()) return result.value();
         log.warning("Element attribute does not contain " +
                 highlighted(BLUE, attributeName) +
                 highlighted(GRAY, " -> ") +
-                highlighted(BLUE, value) +
+                highlighted(BLUE, expectedValue) +
                 highlighted(GRAY, " value.")
         );
-        log.warning(caughtException);
+        if (result.statistics().getLastException() != null)
+            log.warning(result.statistics().getLastException().getClass().getName());
         return false;
     }
 
@@ -1,28 +1,29 @@
 package pickleib.utilities.element;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import context.ContextStore;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
-import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.pagefactory.ByAll;
 import pickleib.enums.PrimarySelectorType;
 import pickleib.enums.SelectorType;
 import pickleib.exceptions.PickleibException;
+import pickleib.utilities.page.repository.JsonRepositoryIndex;
 import pickleib.utilities.page.repository.PageRepository;
+import pickleib.utilities.page.repository.PageRepositoryIndex;
+import pickleib.utilities.polling.Poller;
 import collections.Bundle;
 import collections.Pair;
 import utils.Printer;
 import utils.StringUtilities;
-import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Supplier;
 
+import static pickleib.utilities.page.repository.PageRepositoryIndex.getFields;
 import static utils.reflection.ReflectionUtilities.getFieldValue;
-import static utils.reflection.ReflectionUtilities.getFields;
 import static utils.StringUtilities.Color.*;
 
 @SuppressWarnings("unused")
@@ -49,18 +50,17 @@ public class ElementAcquisition {
             String elementFieldName
     ){
         log.info("Acquiring component by attribute " + strUtils.highlighted(BLUE, attributeName + " -> " + attributeValue));
-        boolean timeout = false;
-        long initialTime = System.currentTimeMillis();
-        while (!timeout){
+        return Poller.fromContext(elementTimeout, log).poll(statistics -> {
             for (Component component : items) {
                 Map<String, Object> componentFields = getFields(component);
                 WebElement element = (WebElement) componentFields.get(elementFieldName);
                 String attribute = element.getAttribute(attributeName);
-                if (attribute.equals(attributeValue)) return component;
+                if (attributeValue.equals(attribute)) return component;
             }
-            if (System.currentTimeMillis() - initialTime > elementTimeout) timeout = true;
-        }
-        throw new NoSuchElementException("No component with " + attributeName + " : " + attributeValue + " could be found!");
+            return null;
+        }).orElseThrow(statistics ->
+                new NoSuchElementException("No component with " + attributeName + " : " + attributeValue + " could be found!")
+        );
     }
 
     /**
@@ -73,27 +73,12 @@ public class ElementAcquisition {
      */
     public static WebElement acquireElementUsingAttributeAmongst(List<WebElement> items, String attributeName, String attributeValue){
         log.info("Acquiring element called " + strUtils.markup(BLUE, attributeValue) + " using its " + strUtils.markup(BLUE, attributeName) + " attribute");
-        boolean condition = true;
-        boolean timeout = false;
-        long initialTime = System.currentTimeMillis();
-        WebDriverException caughtException = null;
-        int counter = 0;
-        while (!(System.currentTimeMillis() - initialTime > elementTimeout)){
-            try {
-                for (WebElement selection : items) {
-                    String attribute = selection.getAttribute(attributeName);
-                    if (attribute != null && (attribute.equalsIgnoreCase(attributeValue) || attribute.contains(attributeValue))) return selection;
-                }
-            }
-            catch (WebDriverException webDriverException){
-                if (counter != 0 && webDriverException.getClass().getName().equals(caughtException.getClass().getName()))
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-
-                caughtException = webDriverException;
-                counter++;
-            }
-        }
-        throw new NoSuchElementException("No element with the attributes '" + attributeName + " : " + attributeValue + "' could be found!");
+        return Poller.fromContext(elementTimeout, log).poll(statistics -> {
+            int index = ElementListScanner.indexOfAttribute(items, attributeName, attributeValue);
+            return index >= 0 ? items.get(index) : null;
+        }).orElseThrow(statistics ->
+                new NoSuchElementException("No element with the attributes '" + attributeName + " : " + attributeValue + "' could be found!")
+        );
     }
 
     /**
@@ -104,31 +89,12 @@ public class ElementAcquisition {
      * @return returns the selected element
      */
     public static WebElement acquireNamedElementAmongst(List<WebElement> items, String selectionName){
-        boolean timeout = false;
-        long initialTime = System.currentTimeMillis();
-        WebDriverException caughtException = null;
-        int counter = 0;
-        do {
-            try {
-                for (WebElement selection : items) {
-                    String text = selection.getText();
-                    if (text.equalsIgnoreCase(selectionName) || text.contains(selectionName)) return selection;
-                }
-            }
-            catch (WebDriverException webDriverException){
-                if (counter == 0) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException;
-                }
-                else if (!webDriverException.getClass().getName().equals(caughtException.getClass().getName())){
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException;
-                }
-                counter++;
-            }
-        }
-        while (!(System.currentTimeMillis() - initialTime > elementTimeout));
-        throw new NoSuchElementException("No element with text/name '" + selectionName + "' could be found!");
+        return Poller.fromContext(elementTimeout, log).poll(statistics -> {
+            int index = ElementListScanner.indexOfText(items, selectionName);
+            return index >= 0 ? items.get(index) : null;
+        }).orElseThrow(statistics ->
+                new NoSuchElementException("No element with text/name '" + selectionName + "' could be found!")
+        );
     }
 
     /**
@@ -143,26 +109,12 @@ public class ElementAcquisition {
             String selectionName
     ){
         log.info("Acquiring component called " + strUtils.highlighted(BLUE, selectionName));
-        boolean timeout = false;
-        long initialTime = System.currentTimeMillis();
-        WebDriverException caughtException = null;
-        int counter = 0;
-        while (!(System.currentTimeMillis() - initialTime > elementTimeout)){
-            try {
-                for (Component selection : items) {
-                    String text = selection.getText();
-                    if (text.equalsIgnoreCase(selectionName) || text.contains(selectionName)) return selection;
-                }
-            }
-            catch (WebDriverException webDriverException){
-                if (counter != 0 && webDriverException.getClass().getName().equals(caughtException.getClass().getName()))
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-
-                caughtException = webDriverException;
-                counter++;
-            }
-        }
-        throw new NoSuchElementException("No component with text/name '" + selectionName + "' could be found!");
+        return Poller.fromContext(elementTimeout, log).poll(statistics -> {
+            int index = ElementListScanner.indexOfText(items, selectionName);
+            return index >= 0 ? items.get(index) : null;
+        }).orElseThrow(statistics ->
+                new NoSuchElementException("No component with text/name '" + selectionName + "' could be found!")
+        );
     }
 
 
@@ -173,6 +125,14 @@ public class ElementAcquisition {
             reflections = new Reflections<>(driver, pageRepository);
         }
 
+        public PageObjectModel(Supplier<RemoteWebDriver> driverSupplier, Class<ObjectRepository> pageRepository) {
+            reflections = new Reflections<>(driverSupplier, pageRepository);
+        }
+
+        public PageObjectModel(Reflections<ObjectRepository> reflections) {
+            this.reflections = reflections;
+        }
+
         /**
          *
          * Acquire element {element name} from {page name}
@@ -670,10 +630,24 @@ public class ElementAcquisition {
 
     public static class PageObjectJson {
 
-        static RemoteWebDriver driver;
+        /**
+         * Compiled element locators, keyed by element json identity and selector types, shared by every repository index
+         */
+        static final LocatorCache<ByAll> byAllCache = new LocatorCache<>(
+                Integer.parseInt(ContextStore.get("locator-cache-size", "1024"))
+        );
+
+        /**
+         * Generated css & xpath selectors, keyed by selector type and attribute pairs
+         */
+        static final LocatorCache<String> selectorCache = new LocatorCache<>(
+                Integer.parseInt(ContextStore.get("locator-cache-size", "1024"))
+        );
+
+        RemoteWebDriver driver;
 
         public PageObjectJson(RemoteWebDriver driver) {
-            PageObjectJson.driver = driver;
+            this.driver = driver;
         }
 
         /**
@@ -687,15 +661,21 @@ public class ElementAcquisition {
          * @return target element
          */
         public WebElement elementFromPage(String elementName, String pageName, JsonObject objectRepository, SelectorType... selectorTypes){
-            log.info("Acquiring element " +
-                    strUtils.highlighted(BLUE, elementName) +
-                    strUtils.highlighted(GRAY," from the ") +
-                    strUtils.highlighted(BLUE, pageName)
-            );
-            JsonObject elementJson = getElementJson(elementName, pageName, objectRepository);
-            assert elementJson != null;
-            ByAll byAll = getByAll(elementJson, selectorTypes);
-            return driver.findElement(byAll);
+            return elementFromPage(elementName, pageName, JsonRepositoryIndex.of(objectRepository), selectorTypes);
+        }
+
+        /**
+         *
+         * Acquires an element selector by desired selector types from a given Json file, the file is reloaded if it changes
+         *
+         * @param elementName target element name
+         * @param pageName page name that includes target element selectors
+         * @param objectRepository target json file directory
+         * @param selectorTypes desired selector types
+         * @return target element
+         */
+        public WebElement elementFromPage(String elementName, String pageName, Path objectRepository, SelectorType... selectorTypes){
+            return elementFromPage(elementName, pageName, JsonRepositoryIndex.of(objectRepository), selectorTypes);
         }
 
         /**
@@ -709,41 +689,66 @@ public class ElementAcquisition {
          * @return target element list
          */
         public List<WebElement> elementsFromPage(String elementName, String pageName, JsonObject objectRepository, SelectorType... selectorTypes){
+            return elementsFromPage(elementName, pageName, JsonRepositoryIndex.of(objectRepository), selectorTypes);
+        }
+
+        /**
+         *
+         * Acquires an element list selector by desired selector types from a given Json file, the file is reloaded if it changes
+         *
+         * @param elementName target element name
+         * @param pageName page name that includes target element selectors
+         * @param objectRepository target json file directory
+         * @param selectorTypes desired selector types
+         * @return target element list
+         */
+        public List<WebElement> elementsFromPage(String elementName, String pageName, Path objectRepository, SelectorType... selectorTypes){
+            return elementsFromPage(elementName, pageName, JsonRepositoryIndex.of(objectRepository), selectorTypes);
+        }
+
+        private WebElement elementFromPage(String elementName, String pageName, JsonRepositoryIndex repositoryIndex, SelectorType... selectorTypes){
+            log.info("Acquiring element " +
+                    strUtils.highlighted(BLUE, elementName) +
+                    strUtils.highlighted(GRAY," from the ") +
+                    strUtils.highlighted(BLUE, pageName)
+            );
+            JsonObject elementJson = repositoryIndex.getElementJson(elementName, pageName);
+            if (elementJson == null) throw new PickleibException("Page " + pageName + " does not contain an element named " + elementName + "!");
+            ByAll byAll = getByAll(elementJson, selectorTypes);
+            return driver.findElement(byAll);
+        }
+
+        private List<WebElement> elementsFromPage(String elementName, String pageName, JsonRepositoryIndex repositoryIndex, SelectorType... selectorTypes){
             log.info("Acquiring element " +
                     strUtils.highlighted(BLUE, elementName) +
                     strUtils.highlighted(GRAY," from the ") +
                     strUtils.highlighted(BLUE, pageName)
             );
-            JsonObject elementJson = getElementJson(elementName, pageName, objectRepository);
-            assert elementJson != null;
+            JsonObject elementJson = repositoryIndex.getElementJson(elementName, pageName);
+            if (elementJson == null) throw new PickleibException("Page " + pageName + " does not contain an element named " + elementName + "!");
             ByAll byAll = getByAll(elementJson, selectorTypes);
             return driver.findElements(byAll);
         }
 
         public ByAll getByAll(JsonObject elementJson, SelectorType... selectorTypes){
-            List<By> locators = new ArrayList<>();
-            for (SelectorType selectorType:selectorTypes) {
-                try {
-                    By locator;
-                    switch (selectorType){
-                        case id ->          locator = By.id(elementJson.get("id").getAsJsonPrimitive().getAsString());
-                        case name ->        locator = By.name(elementJson.get("name").getAsJsonPrimitive().getAsString());
-                        case tagName ->     locator = By.tagName(elementJson.get("tagName").getAsJsonPrimitive().getAsString());
-                        case className ->   locator = By.className(elementJson.get("className").getAsJsonPrimitive().getAsString());
-                        case css ->         locator = By.cssSelector(elementJson.get("cssSelector").getAsJsonPrimitive().getAsString());
-                        case xpath ->       locator = By.xpath(elementJson.get("xpath").getAsJsonPrimitive().getAsString());
-                        case text -> {
-                            String text = elementJson.get("text").getAsJsonPrimitive().getAsString();
-                            locator = By.xpath("//*[text()='" + text + "']");
-                        }
-                        default -> throw new EnumConstantNotPresentException(SelectorType.class, selectorType.name());
-                    }
-                    locators.add(locator);
-                }
-                catch (NullPointerException | IllegalStateException ignored){}
+            return byAllCache.get(
+                    LocatorCache.Key.of(elementJson, (Object[]) selectorTypes),
+                    () -> JsonRepositoryIndex.compileByAll(elementJson, selectorTypes)
+            );
+        }
 
-            }
-            return new ByAll(locators.toArray(new By[0]));
+        /**
+         * Returns the cache of compiled element locators
+         */
+        public static LocatorCache<ByAll> getByAllCache() {
+            return byAllCache;
+        }
+
+        /**
+         * Returns the cache of generated css & xpath selectors
+         */
+        public static LocatorCache<String> getSelectorCache() {
+            return selectorCache;
         }
 
         /**
@@ -791,6 +796,37 @@ public class ElementAcquisition {
          */
         @SafeVarargs
         public final String generateCssByAttributes(Pair<String, String>... attributePairs){
+            return selectorCache.get(
+                    LocatorCache.Key.of(PrimarySelectorType.css, flatten(attributePairs)),
+                    () -> compileCss(attributePairs)
+            );
+        }
+
+        /**
+         *
+         * Generates xPath by element attributes
+         *
+         * @param attributePairs target element attributes as 'label = value'
+         * @return target element selector
+         */
+        @SafeVarargs
+        public final String generateXPathByAttributes(Pair<String, String>... attributePairs){
+            return selectorCache.get(
+                    LocatorCache.Key.of(PrimarySelectorType.xpath, flatten(attributePairs)),
+                    () -> compileXPath(attributePairs)
+            );
+        }
+
+        private static List<String> flatten(Pair<String, String>[] attributePairs){
+            List<String> values = new ArrayList<>(attributePairs.length * 2);
+            for (Pair<String, String> attributePair:attributePairs) {
+                values.add(attributePair.alpha());
+                values.add(attributePair.beta());
+            }
+            return values;
+        }
+
+        private static String compileCss(Pair<String, String>[] attributePairs){
             StringBuilder selector = new StringBuilder();
             for (Pair<String, String> attributePair:attributePairs) {
                 StringJoiner cssFormat = new StringJoiner(
@@ -803,15 +839,7 @@ public class ElementAcquisition {
             return selector.toString();
         }
 
-        /**
-         *
-         * Generates xPath by element attributes
-         *
-         * @param attributePairs target element attributes as 'label = value'
-         * @return target element selector
-         */
-        @SafeVarargs
-        public final String generateXPathByAttributes(Pair<String, String>... attributePairs){
+        private static String compileXPath(Pair<String, String>[] attributePairs){
             StringBuilder selector = new StringBuilder();
             selector.append("//*");
             for (Pair<String, String> attributePair:attributePairs) {
@@ -835,42 +863,38 @@ public class ElementAcquisition {
          * @return target element selectors as JsonObject
          */
         public static JsonObject getElementJson(String elementName, String pageName, JsonObject objectRepository){
-            JsonArray pages = objectRepository.getAsJsonArray("pages");
-
-            JsonObject pageJson = Objects.requireNonNull(
-                    pages.asList().stream().filter(
-                            page -> page.getAsJsonObject().get("name").getAsJsonPrimitive().getAsString().equals(pageName)
-                    ).findAny().orElse(null)
-            ).getAsJsonObject();
-
-            JsonArray elements = pageJson.getAsJsonArray("elements");
-            for (JsonElement elementJson:elements)
-                if (elementJson.getAsJsonObject().get("elementName").getAsJsonPrimitive().getAsString().equals(elementName))
-                    return elementJson.getAsJsonObject();
-
-            return null;
+            return JsonRepositoryIndex.of(objectRepository).getElementJson(elementName, pageName);
         }
     }
 
     public static class Reflections<ObjectRepository extends PageRepository> {
-        private final Class<ObjectRepository> pageRepositoryClass;
+        private final PageRepositoryIndex<ObjectRepository> repositoryIndex;
 
         public Reflections(RemoteWebDriver driver, Class<ObjectRepository> pageRepository) {
-            this.pageRepositoryClass = pageRepository;
+            this(() -> driver, pageRepository);
+        }
+
+        /**
+         * Reflections that resolve the driver on each lookup, the object repository is rebuilt whenever the driver changes
+         *
+         * @param driverSupplier supplies the driver of the current session
+         * @param pageRepository object repository class
+         */
+        public Reflections(Supplier<RemoteWebDriver> driverSupplier, Class<ObjectRepository> pageRepository) {
+            this.repositoryIndex = new PageRepositoryIndex<>(pageRepository, driverSupplier);
         }
 
         protected ObjectRepository getObjectRepository(){
-            try {
-                return pageRepositoryClass.getConstructor().newInstance();
-            }
-            catch (
-                    InstantiationException |
-                    IllegalAccessException |
-                    NoSuchMethodException  |
-                    InvocationTargetException e
-            ) {
-                throw new RuntimeException(e);
-            }
+            return repositoryIndex.getRepository();
+        }
+
+        /**
+         * Returns the object repository index used by these reflections
+         *
+         * @return returns the repository index
+         */
+        public PageRepositoryIndex<ObjectRepository> getRepositoryIndex() {
+            return repositoryIndex;
         }
 
         /**
@@ -881,13 +905,10 @@ public class ElementAcquisition {
          * @return returns the element
          */
         public WebElement getElementFromPage(String elementFieldName, String pageName){
-            Map<String, Object> pageFields;
-            Object pageObject = getFields(getObjectRepository()).get(pageName);
-            if (pageObject != null) pageFields = getFields(pageObject);
-            else throw new PickleibException("ObjectRepository does not contain an instance of " + pageName + " object!");
-            if (pageFields.get(elementFieldName) == null)
+            Object element = repositoryIndex.getPageField(elementFieldName, pageName);
+            if (element == null)
                 throw new PickleibException("The " + strUtils.highlighted(YELLOW, pageName) + " page object does not contain " + strUtils.highlighted(YELLOW, elementFieldName) + " element!");
-            return (WebElement) pageFields.get(elementFieldName);
+            return (WebElement) element;
         }
 
         /**
@@ -899,13 +920,10 @@ public class ElementAcquisition {
          */
         @SuppressWarnings("unchecked")
         public List<WebElement> getElementsFromPage(String elementListFieldName, String pageName){
-            Map<String, Object> pageFields;
-            Object pageObject = getFields(getObjectRepository()).get(pageName);
-            if (pageObject != null) pageFields = getFields(pageObject);
-            else throw new PickleibException("ObjectRepository does not contain an instance of " + pageName + " object!");
-            if (pageFields.get(elementListFieldName) == null)
+            Object elements = repositoryIndex.getPageField(elementListFieldName, pageName);
+            if (elements == null)
                 throw new PickleibException("The " + strUtils.highlighted(YELLOW, pageName) + " page object does not contain " + strUtils.highlighted(YELLOW, elementListFieldName) + " element list!");
-            return (List<WebElement>) pageFields.get(elementListFieldName);
+            return (List<WebElement>) elements;
         }
 
         /**
@@ -994,11 +1012,7 @@ public class ElementAcquisition {
          * @return returns map of fields
          */
         public Map<String, Object> getComponentFieldsFromPage(String componentName, String pageName){
-            Map<String, Object> componentFields;
-            Object pageObject = getFields(getObjectRepository()).get(pageName);
-            if (pageObject != null) componentFields = getFields(pageObject);
-            else throw new PickleibException("ObjectRepository does not contain an instance of " + pageName + " object!");
-            return getFields(componentFields.get(componentName));
+            return getFields(repositoryIndex.getPageField(componentName, pageName));
         }
 
         /**
@@ -1010,12 +1024,7 @@ public class ElementAcquisition {
          */
         @SuppressWarnings("unchecked")
         public <Component extends WebElement> List<Component> getComponentsFromPage(String componentListName, String pageName){
-            Map<String, Object> pageFields;
-            Map<String, Object> componentFields;
-            Object pageObject = getFields(getObjectRepository()).get(pageName);
-            if (pageObject != null) pageFields = getFields(pageObject);
-            else throw new PickleibException("ObjectRepository does not contain an instance of " + pageName + " object!");
-            return (List<Component>) pageFields.get(componentListName);
+            return (List<Component>) repositoryIndex.getPageField(componentListName, pageName);
         }
 
         /**
@@ -1103,9 +1112,7 @@ public class ElementAcquisition {
                 String targetElementFieldName
         ){
             log.info("Acquiring component called " + strUtils.highlighted(BLUE, elementText));
-            boolean timeout = false;
-            long initialTime = System.currentTimeMillis();
-            while (!timeout){
+            return Poller.fromContext(elementTimeout, log).poll(statistics -> {
                 for (Component component : items) {
                     Map<String, Object> componentFields = getFields(component);
                     WebElement element = (WebElement) componentFields.get(targetElementFieldName);
@@ -1113,9 +1120,10 @@ public class ElementAcquisition {
                     String name = element.getAccessibleName();
                     if (text.equalsIgnoreCase(elementText) || name.equalsIgnoreCase(elementText)) return component;
                 }
-                if (System.currentTimeMillis() - initialTime > elementTimeout) timeout = true;
-            }
-            throw new NoSuchElementException("No component with text/name '" + elementText + "' could be found!");
+                return null;
+            }).orElseThrow(statistics ->
+                    new NoSuchElementException("No component with text/name '" + elementText + "' could be found!")
+            );
         }
     }
 }
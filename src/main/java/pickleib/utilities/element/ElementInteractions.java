@@ -12,6 +12,8 @@ import pickleib.exceptions.PickleibVerificationException;
 import pickleib.utilities.ScrollFunction;
 import pickleib.utilities.Utilities;
 import collections.Bundle;
+import collections.Pair;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -593,9 +595,14 @@ public class ElementInteractions extends Utilities {
             String pageName,
             List<Map<String, String>> signForms){
 
-        for (Bundle<WebElement, String, String> bundle : bundles) {
-            String elementName = bundle.beta();
-            String expectedText = contextCheck(bundle.theta());
+        List<String> expectedTexts = bundles.stream().map(bundle -> contextCheck(bundle.theta())).toList();
+        ElementSnapshot snapshot = snapshotUntil(
+                List.of(element),
+                (index, elementSnapshot) -> expectedTexts.stream().allMatch(elementSnapshot.text()::contains)
+        ).get(0);
+        for (int index = 0; index < bundles.size(); index++) {
+            String elementName = bundles.get(index).beta();
+            String expectedText = expectedTexts.get(index);
 
             log.info("Performing text verification for " +
                     highlighted(BLUE, elementName) +
@@ -604,7 +611,7 @@ public class ElementInteractions extends Utilities {
                     highlighted(GRAY, " with the text: ") +
                     highlighted(BLUE, expectedText)
             );
-            if (!element.getText().contains(expectedText))
+            if (!snapshot.text().contains(expectedText))
                 throw new PickleibException("The " + elementName + " does not contain text '" + expectedText + "' ");
             log.success("Text of '" + elementName + "' verified as '" + expectedText + "'!");
         }
@@ -764,6 +771,8 @@ public class ElementInteractions extends Utilities {
      *
      * <p>
      * For 'fill' interactions, an additional boolean parameter is added to specify whether to clear the input field before filling.
+     * If a pipelined form-fill-mode is selected, consecutive 'fill' interactions are filled together by a {@link FormFiller}.
+     * Pipelined fills replace the input values instead of typing after them, and do not use the {@code scroller}.
      * </p>
      *
      * @param bundles   The list of bundles, where each bundle contains information for a specific interaction.
@@ -773,8 +782,24 @@ public class ElementInteractions extends Utilities {
      * @throws EnumConstantNotPresentException If an unsupported interaction type is encountered in the bundle.
      */
     public void bundleInteraction(List<Bundle<String, WebElement, Map<String, String>>> bundles, String pageName, ScrollFunction scroller){
+        FormFiller formFiller = new FormFiller(driver, elementTimeout, log);
+        List<Pair<WebElement, String>> fields = new ArrayList<>();
         for (Bundle<String, WebElement, Map<String, String>> bundle:bundles) {
             InteractionType interactionType = InteractionType.valueOf(bundle.theta().get("Interaction Type"));
+            if (interactionType == InteractionType.fill && formFiller.isPipelined()) {
+                String input = bundle.theta().get("Input");
+                log.info("Filling " +
+                        highlighted(BLUE, bundle.alpha()) +
+                        highlighted(GRAY," on the ") +
+                        highlighted(BLUE, pageName) +
+                        highlighted(GRAY, " with the text: ") +
+                        highlighted(BLUE, input)
+                );
+                fields.add(new Pair<>(bundle.beta(), contextCheck(input)));
+                continue;
+            }
+            formFiller.fill(fields, false); // Consecutive fills are filled together
+            fields.clear();
             switch (interactionType){
                 case click  -> clickInteraction(bundle.beta(), bundle.alpha(), pageName, scroller);
                 case fill   -> basicFill(bundle.beta(), bundle.alpha(), pageName, bundle.theta().get("Input"), false, scroller);
@@ -789,6 +814,7 @@ public class ElementInteractions extends Utilities {
                 default -> throw new EnumConstantNotPresentException(InteractionType.class, interactionType.name());
             }
         }
+        formFiller.fill(fields, false);
     }
 
     /**
@@ -0,0 +1,167 @@
+package pickleib.utilities.element;
+
+import context.ContextStore;
+import org.openqa.selenium.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Scans a list of elements for a match in a single {@code executeScript} round trip.
+ *
+ * <p>
+ * Drivers that do not support scripts (ex: Appium in a native context) are remembered,
+ * and their lists are scanned with one {@code getText()} / {@code getAttribute()} call per element instead.
+ * Other script failures (ex: a script timeout) only fall back for the failing scan.
+ * </p>
+ *
+ * @since 1.9.9
+ */
+@SuppressWarnings("unused")
+public class ElementListScanner {
+
+    /**
+     * lists are scanned via a single script call if true
+     */
+    static boolean batchScan = Boolean.parseBoolean(ContextStore.get("batch-list-scan", "true"));
+
+    /**
+     * Drivers that do not support scan scripts
+     */
+    private static final Map<WebDriver, Boolean> scriptlessDrivers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Approximates {@link WebElement#getText()}: elements that are not displayed (no layout box, display none, zero opacity,
+     * hidden visibility) have no text, non-breaking spaces become spaces and whitespace is collapsed unless the element preserves it.
+     * Unlike getText, descendants hidden by zero opacity are not excluded from the text of a displayed element.
+     */
+    static final String TEXT_FUNCTION = """
+            var textOf = function (element) {
+                if (element.getClientRects().length === 0) return '';
+                for (var node = element; node && node.nodeType === 1; node = node.parentElement) {
+                    var style = window.getComputedStyle(node);
+                    if (style.display === 'none' || parseFloat(style.opacity) === 0) return '';
+                    if (node === element && (style.visibility === 'hidden' || style.visibility === 'collapse')) return '';
+                }
+                var text = (element.innerText || '').replace(/\\u00a0/g, ' ');
+                if (!/^(pre|pre-wrap|break-spaces)$/.test(window.getComputedStyle(element).whiteSpace))
+                    text = text.replace(/[ \\t]+/g, ' ');
+                return text.trim();
+            };
+            """;
+
+    /**
+     * Mirrors {@link WebElement#getAttribute(String)}, the property is preferred over the attribute
+     */
+    static final String ATTRIBUTE_FUNCTION = """
+            var attributeOf = function (element, name) {
+                var value = element[name];
+                if (typeof value === 'boolean') return value ? 'true' : null;
+                if (typeof value === 'string' || typeof value === 'number') return String(value);
+                return element.getAttribute(name);
+            };
+            """;
+
+    private static final String TEXT_SCAN = TEXT_FUNCTION + """
+            var elements = arguments[0], expected = arguments[1];
+            for (var i = 0; i < elements.length; i++) {
+                var text = textOf(elements[i]);
+                if (text.toLowerCase() === expected.toLowerCase() || text.indexOf(expected) >= 0) return i;
+            }
+            return -1;
+            """;
+
+    private static final String ATTRIBUTE_SCAN = ATTRIBUTE_FUNCTION + """
+            var elements = arguments[0], name = arguments[1], expected = arguments[2];
+            for (var i = 0; i < elements.length; i++) {
+                var value = attributeOf(elements[i], name);
+                if (value !== null && (value.toLowerCase() === expected.toLowerCase() || value.indexOf(expected) >= 0)) return i;
+            }
+            return -1;
+            """;
+
+    /**
+     * Returns the index of the first element whose text equals (ignoring case) or contains a given text
+     *
+     * @param elements candidate elements
+     * @param text expected text
+     * @return returns the index of the match, or -1 if no element matches
+     */
+    public static int indexOfText(List<? extends WebElement> elements, String text){
+        Integer index = scan(elements, TEXT_SCAN, text);
+        if (index != null) return index;
+        for (int i = 0; i < elements.size(); i++) {
+            String elementText = elements.get(i).getText();
+            if (elementText.equalsIgnoreCase(text) || elementText.contains(text)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element whose attribute equals (ignoring case) or contains a given value
+     *
+     * @param elements candidate elements
+     * @param attributeName attribute name
+     * @param attributeValue expected attribute value
+     * @return returns the index of the match, or -1 if no element matches
+     */
+    public static int indexOfAttribute(List<? extends WebElement> elements, String attributeName, String attributeValue){
+        Integer index = scan(elements, ATTRIBUTE_SCAN, attributeName, attributeValue);
+        if (index != null) return index;
+        for (int i = 0; i < elements.size(); i++) {
+            String attribute = elements.get(i).getAttribute(attributeName);
+            if (attribute != null && (attribute.equalsIgnoreCase(attributeValue) || attribute.contains(attributeValue))) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Executes a scan script with the elements as its first argument
+     *
+     * @return returns the index returned by the script, or null if the script could not be executed
+     */
+    private static Integer scan(List<? extends WebElement> elements, String script, Object... arguments){
+        if (elements.isEmpty()) return -1;
+        JavascriptExecutor executor = scriptExecutorOf(elements.get(0));
+        if (executor == null) return null;
+        Object[] scriptArguments = new Object[arguments.length + 1];
+        scriptArguments[0] = elements;
+        System.arraycopy(arguments, 0, scriptArguments, 1, arguments.length);
+        try {
+            return ((Number) executor.executeScript(script, scriptArguments)).intValue();
+        }
+        catch (StaleElementReferenceException staleElementException) {throw staleElementException;}
+        catch (WebDriverException | ClassCastException | NullPointerException exception) {
+            scriptFailed(executor, exception);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the script executor of an element's driver, or null if scripts should not be used
+     */
+    static JavascriptExecutor scriptExecutorOf(WebElement element){
+        if (!batchScan) return null;
+        WebElement unwrapped = element;
+        while (!(unwrapped instanceof WrapsDriver) && unwrapped instanceof WrapsElement wrapper)
+            unwrapped = wrapper.getWrappedElement();
+        if (!(unwrapped instanceof WrapsDriver wrapsDriver)) return null;
+        WebDriver driver = wrapsDriver.getWrappedDriver();
+        if (!(driver instanceof JavascriptExecutor executor) || scriptlessDrivers.containsKey(driver)) return null;
+        return executor;
+    }
+
+    /**
+     * Remembers that a driver cannot execute scan scripts if the failure shows scripts are not supported,
+     * other failures (ex: a script error thrown by the page, script timeouts) only fall back for the failed scan
+     */
+    static void scriptFailed(JavascriptExecutor executor, RuntimeException exception){
+        if (exception instanceof UnsupportedCommandException) scriptlessDrivers.put((WebDriver) executor, true);
+    }
+
+    public static void setBatchScan(boolean batchScan) {
+        ElementListScanner.batchScan = batchScan;
+    }
+}
@@ -0,0 +1,124 @@
+package pickleib.utilities.element;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.*;
+
+/**
+ * The state of an element at a given moment: text, value, displayed & enabled states and requested attributes.
+ *
+ * <p>
+ * Snapshots of a whole list of elements are taken in a single {@code executeScript} call,
+ * so that verifications can run against them in memory.
+ * Drivers that cannot execute scripts fall back to per-element calls (see {@link ElementListScanner}).
+ * </p>
+ *
+ * @param text visible text of the element, read by the {@link ElementListScanner} text script (an approximation of getText) unless scripts are not supported
+ * @param value value of the element (ex: input value), or null
+ * @param displayed true if the element is displayed
+ * @param enabled true if the element is enabled
+ * @param attributes requested attributes of the element, absent attributes are mapped to null
+ *
+ * @since 1.9.9
+ */
+@SuppressWarnings("unused")
+public record ElementSnapshot(String text, String value, boolean displayed, boolean enabled, Map<String, String> attributes) {
+
+    private static final String SNAPSHOT_SCRIPT = ElementListScanner.TEXT_FUNCTION + ElementListScanner.ATTRIBUTE_FUNCTION + """
+            var elements = arguments[0], names = arguments[1], snapshots = [];
+            for (var i = 0; i < elements.length; i++) {
+                var element = elements[i], style = window.getComputedStyle(element), attributes = {};
+                for (var j = 0; j < names.length; j++) attributes[names[j]] = attributeOf(element, names[j]);
+                snapshots.push({
+                    text: textOf(element),
+                    value: attributeOf(element, 'value'),
+                    displayed: element.getClientRects().length > 0 && style.visibility !== 'hidden' && style.display !== 'none',
+                    enabled: !element.disabled,
+                    attributes: attributes
+                });
+            }
+            return snapshots;
+            """;
+
+    /**
+     * Returns an attribute of the snapshot
+     *
+     * @param attributeName attribute name (must be requested while taking the snapshot)
+     * @return returns the attribute value, or null
+     */
+    public String attribute(String attributeName){
+        return attributes.get(attributeName);
+    }
+
+    /**
+     * Takes the snapshot of a single element
+     *
+     * @param element target element
+     * @param attributeNames attributes to be captured
+     * @return returns the snapshot
+     */
+    public static ElementSnapshot of(WebElement element, String... attributeNames){
+        return of(List.of(element), attributeNames).get(0);
+    }
+
+    /**
+     * Takes the snapshots of given elements in a single round trip
+     *
+     * @param elements target elements
+     * @param attributeNames attributes to be captured
+     * @return returns the snapshots, in the order of the elements
+     */
+    @SuppressWarnings("unchecked")
+    public static List<ElementSnapshot> of(List<? extends WebElement> elements, String... attributeNames){
+        if (elements.isEmpty()) return List.of();
+        JavascriptExecutor executor = ElementListScanner.scriptExecutorOf(elements.get(0));
+        if (executor != null) {
+            try {
+                List<Map<String, Object>> results = (List<Map<String, Object>>) executor.executeScript(
+                        SNAPSHOT_SCRIPT,
+                        elements,
+                        List.of(attributeNames)
+                );
+                List<ElementSnapshot> snapshots = new ArrayList<>(results.size());
+                for (Map<String, Object> result : results) snapshots.add(fromScriptResult(result));
+                return snapshots;
+            }
+            catch (StaleElementReferenceException staleElementException) {throw staleElementException;}
+            catch (WebDriverException | ClassCastException | NullPointerException exception) {
+                ElementListScanner.scriptFailed(executor, exception);
+            }
+        }
+        List<ElementSnapshot> snapshots = new ArrayList<>(elements.size());
+        for (WebElement element : elements) {
+            Map<String, String> attributes = new HashMap<>();
+            for (String attributeName : attributeNames) attributes.put(attributeName, element.getAttribute(attributeName));
+            snapshots.add(new ElementSnapshot(
+                    element.getText(),
+                    element.getAttribute("value"),
+                    element.isDisplayed(),
+                    element.isEnabled(),
+                    Collections.unmodifiableMap(attributes)
+            ));
+        }
+        return snapshots;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ElementSnapshot fromScriptResult(Map<String, Object> result){
+        Map<String, String> attributes = new HashMap<>();
+        ((Map<String, Object>) result.get("attributes")).forEach(
+                (name, value) -> attributes.put(name, value != null ? String.valueOf(value) : null)
+        );
+        Object value = result.get("value");
+        return new ElementSnapshot(
+                String.valueOf(result.get("text")),
+                value != null ? String.valueOf(value) : null,
+                Boolean.TRUE.equals(result.get("displayed")),
+                Boolean.TRUE.equals(result.get("enabled")),
+                Collections.unmodifiableMap(attributes)
+        );
+    }
+}
@@ -0,0 +1,194 @@
+package pickleib.utilities.element;
+
+import collections.Pair;
+import context.ContextStore;
+import org.openqa.selenium.*;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import pickleib.exceptions.PickleibException;
+import pickleib.utilities.polling.Poller;
+import pickleib.utilities.polling.PollingResult;
+import utils.Printer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static utils.StringUtilities.Color.*;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * Fills a whole form in a pipeline instead of clearing, filling and verifying each input one after another.
+ *
+ * <p>
+ * Once every input is displayed, all inputs are cleared & filled at once, either via a single action chain ({@link Mode#actions})
+ * or a single script that sets the values and dispatches input & change events ({@link Mode#script}).
+ * Values are then verified with a single batched read-back, and only the mismatching inputs are filled again.
+ * The mode is selected by the form-fill-mode property, {@link Mode#sequential} keeps the input by input behaviour.
+ * </p>
+ *
+ * <p>
+ * Unlike the sequential fills, which type after the current value of an input, pipelined fills replace the value.
+ * Pipelined fills do not use custom scroll functions, the action chain scrolls to each input and the script does not need to.
+ * </p>
+ *
+ * @since 1.9.9
+ */
+@SuppressWarnings("unused")
+public class FormFiller {
+
+    /**
+     * Form filling modes
+     */
+    public enum Mode {
+        /**
+         * inputs are filled one by one, each with its own verification
+         */
+        sequential,
+        /**
+         * inputs are cleared (select all + delete) and filled within a single action chain
+         */
+        actions,
+        /**
+         * input values are set by a single script, dispatching input & change events for framework bindings
+         */
+        script;
+
+        public static Mode fromContext(){
+            return valueOf(ContextStore.get("form-fill-mode", "sequential").toLowerCase());
+        }
+    }
+
+    /**
+     * Sets the values via the native value setters, so that React/Angular bindings pick up the change.
+     * Returns the indices of the elements that do not have a value property.
+     */
+    private static final String FILL_SCRIPT = """
+            var elements = arguments[0], values = arguments[1], skipped = [];
+            for (var i = 0; i < elements.length; i++) {
+                var element = elements[i];
+                if (!('value' in element)) {
+                    skipped.push(i);
+                    continue;
+                }
+                var prototype = Object.getPrototypeOf(element);
+                var descriptor = Object.getOwnPropertyDescriptor(prototype, 'value');
+                if (typeof element.focus === 'function') element.focus();
+                if (descriptor && descriptor.set) descriptor.set.call(element, values[i]);
+                else element.value = values[i];
+                element.dispatchEvent(new Event('input', { bubbles: true }));
+                element.dispatchEvent(new Event('change', { bubbles: true }));
+                if (typeof element.blur === 'function') element.blur();
+            }
+            return skipped;
+            """;
+
+    private final RemoteWebDriver driver;
+    private final Mode mode;
+    private final long timeout;
+    private final Printer log;
+
+    public FormFiller(RemoteWebDriver driver, Mode mode, long timeout, Printer log) {
+        this.driver = driver;
+        this.mode = mode;
+        this.timeout = timeout;
+        this.log = log;
+    }
+
+    public FormFiller(RemoteWebDriver driver, long timeout, Printer log) {
+        this(driver, Mode.fromContext(), timeout, log);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns true if forms are filled in a pipeline
+     */
+    public boolean isPipelined(){
+        return mode != Mode.sequential;
+    }
+
+    /**
+     * Waits for given inputs to be displayed, clears & fills them in a pipeline, then verifies their values with a single read-back
+     *
+     * @param fields input elements paired with their input texts
+     * @param verify verifies the input values if true, refilling the mismatching inputs until the timeout
+     * @throws PickleibException if inputs still do not have their expected values after the timeout
+     */
+    public void fill(List<Pair<WebElement, String>> fields, boolean verify){
+        if (fields.isEmpty()) return;
+        List<Integer> pending = new ArrayList<>();
+        for (int index = 0; index < fields.size(); index++) pending.add(index);
+        waitUntilDisplayed(fields);
+
+        PollingResult<Boolean> result = Poller.fromContext(timeout, log).poll(statistics -> {
+            if (statistics.getAttempts() == 1) fillPipelined(select(fields, pending));
+            else for (int index : pending) refill(fields.get(index));
+            if (!verify) return true;
+            List<ElementSnapshot> snapshots = ElementSnapshot.of(select(fields, pending).stream().map(Pair::alpha).toList());
+            List<Integer> mismatches = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++)
+                if (!fields.get(pending.get(i)).beta().equals(snapshots.get(i).value())) mismatches.add(pending.get(i));
+            pending.retainAll(mismatches);
+            return pending.isEmpty() ? true : null;
+        });
+        if (!result.isSuccessful()) {
+            List<String> expectedValues = pending.stream().map(index -> fields.get(index).beta()).toList();
+            throw new PickleibException("Inputs could not be filled with " + highlighted(BLUE, String.valueOf(expectedValues)) + highlighted(GRAY, "!"));
+        }
+    }
+
+    /**
+     * Waits for every input to be displayed with a single batched read per attempt, like the elementIs(displayed) wait of sequential fills
+     */
+    private void waitUntilDisplayed(List<Pair<WebElement, String>> fields){
+        List<WebElement> elements = fields.stream().map(Pair::alpha).toList();
+        PollingResult<Boolean> result = Poller.fromContext(timeout, log).poll(statistics ->
+                ElementSnapshot.of(elements).stream().allMatch(ElementSnapshot::displayed) ? true : null
+        );
+        if (!result.isSuccessful()) log.warning("Inputs are not displayed after " + timeout + "ms, filling them anyway");
+    }
+
+    private void fillPipelined(List<Pair<WebElement, String>> fields){
+        switch (mode) {
+            case actions -> fillByActions(fields);
+            case script -> fillByScript(fields);
+            case sequential -> fields.forEach(this::refill);
+        }
+    }
+
+    private void fillByActions(List<Pair<WebElement, String>> fields){
+        Keys modifier = InputClearer.selectAllModifier(driver);
+        Actions actions = new Actions(driver);
+        for (Pair<WebElement, String> field : fields) {
+            actions.scrollToElement(field.alpha())
+                    .click(field.alpha())
+                    .keyDown(modifier)
+                    .sendKeys("a")
+                    .keyUp(modifier)
+                    .sendKeys(Keys.BACK_SPACE)
+                    .sendKeys(field.beta());
+        }
+        actions.perform();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fillByScript(List<Pair<WebElement, String>> fields){
+        List<Number> skipped = (List<Number>) driver.executeScript(
+                FILL_SCRIPT,
+                fields.stream().map(Pair::alpha).toList(),
+                fields.stream().map(Pair::beta).toList()
+        );
+        for (Number index : skipped) refill(fields.get(index.intValue()));
+    }
+
+    private void refill(Pair<WebElement, String> field){
+        InputClearer.clear(driver, field.alpha());
+        field.alpha().sendKeys(field.beta());
+    }
+
+    private static List<Pair<WebElement, String>> select(List<Pair<WebElement, String>> fields, List<Integer> indices){
+        return indices.stream().map(fields::get).toList();
+    }
+}
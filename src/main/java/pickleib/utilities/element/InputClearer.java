@@ -0,0 +1,175 @@
+package pickleib.utilities.element;
+
+import context.ContextStore;
+import org.openqa.selenium.*;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+/**
+ * Clears input fields with a single driver command instead of one {@code BACK_SPACE} per character.
+ *
+ * <p>
+ * The strategy is selected by the clear-strategy property, {@link Strategy#backspace} (default) keeps the key by key behaviour,
+ * {@link Strategy#auto} detects the cheapest strategy that keeps framework bindings in sync for each element with a single script call.
+ * Detected strategies are cached per element reference, which is scoped to a single page load.
+ * </p>
+ *
+ * @since 1.9.9
+ */
+@SuppressWarnings("unused")
+public class InputClearer {
+
+    /**
+     * Input clearing strategies
+     */
+    public enum Strategy {
+        /**
+         * sends one {@code BACK_SPACE} per character of the value
+         */
+        backspace,
+        /**
+         * selects all text and deletes it within a single action chain, works for content editable elements too
+         */
+        actions,
+        /**
+         * resets the value via the native value setter and dispatches input & change events (React, Angular, Vue)
+         */
+        script,
+        /**
+         * uses the WebDriver clear command
+         */
+        nativeClear,
+        /**
+         * detects the strategy per element
+         */
+        auto
+    }
+
+    static Strategy strategy = Strategy.valueOf(ContextStore.get("clear-strategy", "backspace"));
+
+    /**
+     * Detected strategies, keyed by driver and element id
+     */
+    private static final LocatorCache<Strategy> decisions = new LocatorCache<>(
+            Integer.parseInt(ContextStore.get("clear-strategy-cache-size", "1024"))
+    );
+
+    private static final String RESET_FUNCTION = """
+            var reset = function (element) {
+                var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(element), 'value');
+                if (descriptor && descriptor.set) descriptor.set.call(element, '');
+                else element.value = '';
+                element.dispatchEvent(new Event('input', { bubbles: true }));
+                element.dispatchEvent(new Event('change', { bubbles: true }));
+            };
+            """;
+
+    private static final String RESET_SCRIPT = RESET_FUNCTION + "reset(arguments[0]);";
+
+    /**
+     * Picks the strategy of an element, framework bound inputs are reset within the same call
+     */
+    private static final String DETECT_SCRIPT = RESET_FUNCTION + """
+            var element = arguments[0];
+            if (element.isContentEditable || !('value' in element)) return 'actions';
+            var bound = Object.keys(element).some(function (key) {
+                return key.indexOf('__react') === 0 || key.indexOf('__vue') === 0 || key.indexOf('__zone_symbol') === 0 || key === '_valueTracker';
+            }) || element.hasAttribute('formcontrolname') || element.hasAttribute('ng-model') || element.hasAttribute('ng-reflect-model');
+            if (!bound) return 'nativeClear';
+            reset(element);
+            return 'script';
+            """;
+
+    /**
+     * Clears a given input element with the configured strategy
+     *
+     * @param driver session driver
+     * @param element target element
+     * @return returns the element
+     */
+    public static WebElement clear(RemoteWebDriver driver, WebElement element){
+        clear(driver, element, strategy);
+        return element;
+    }
+
+    /**
+     * Clears a given input element with a given strategy
+     *
+     * @param driver session driver
+     * @param element target element
+     * @param strategy clearing strategy
+     */
+    public static void clear(RemoteWebDriver driver, WebElement element, Strategy strategy){
+        switch (strategy) {
+            case backspace -> {
+                int textLength = element.getAttribute("value").length();
+                for (int i = 0; i < textLength; i++) element.sendKeys(Keys.BACK_SPACE);
+            }
+            case actions -> {
+                Keys modifier = selectAllModifier(driver);
+                new Actions(driver)
+                        .click(element)
+                        .keyDown(modifier)
+                        .sendKeys("a")
+                        .keyUp(modifier)
+                        .sendKeys(Keys.BACK_SPACE)
+                        .perform();
+            }
+            case script -> driver.executeScript(RESET_SCRIPT, element);
+            case nativeClear -> element.clear();
+            case auto -> {
+                WebElement unwrapped = element;
+                while (!(unwrapped instanceof RemoteWebElement) && unwrapped instanceof WrapsElement wrapper)
+                    unwrapped = wrapper.getWrappedElement();
+                if (!(unwrapped instanceof RemoteWebElement remoteElement)) {
+                    detect(driver, unwrapped);
+                    return;
+                }
+                boolean[] cleared = {false};
+                Strategy detected = decisions.get(LocatorCache.Key.of(driver, remoteElement.getId()), () -> {
+                    cleared[0] = true;
+                    return detect(driver, remoteElement);
+                });
+                if (!cleared[0]) clear(driver, remoteElement, detected);
+            }
+        }
+    }
+
+    /**
+     * Detects and applies the cheapest strategy of an element
+     *
+     * @return returns the detected strategy
+     */
+    private static Strategy detect(RemoteWebDriver driver, WebElement element){
+        Strategy detected;
+        try {detected = Strategy.valueOf((String) driver.executeScript(DETECT_SCRIPT, element));}
+        catch (StaleElementReferenceException staleElementException) {throw staleElementException;}
+        catch (WebDriverException | ClassCastException | NullPointerException exception) {detected = Strategy.nativeClear;}
+        if (detected != Strategy.script) clear(driver, element, detected);
+        return detected;
+    }
+
+    /**
+     * Returns the modifier of the select all chord on the platform of a session (COMMAND on macOS, CONTROL elsewhere)
+     */
+    static Keys selectAllModifier(RemoteWebDriver driver){
+        Platform platform = driver.getCapabilities().getPlatformName();
+        return platform != null && platform.is(Platform.MAC) ? Keys.COMMAND : Keys.CONTROL;
+    }
+
+    public static Strategy getStrategy() {
+        return strategy;
+    }
+
+    public static void setStrategy(Strategy strategy) {
+        InputClearer.strategy = strategy;
+    }
+
+    /**
+     * Returns the cache of detected strategies
+     */
+    public static LocatorCache<Strategy> getDecisions() {
+        return decisions;
+    }
+}
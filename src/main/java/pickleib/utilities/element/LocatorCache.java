@@ -0,0 +1,164 @@
+package pickleib.utilities.element;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, thread safe, least recently used cache of compiled locators with hit & miss counters.
+ *
+ * <p>
+ * Entries are keyed by the identity of their source (ex: an element json or a driver) along with the values of the inputs
+ * (ex: selector types). Sources are weakly referenced, so entries of collected sources are dropped.
+ * Once the capacity is reached, the least recently used entries are evicted to make room for new ones.
+ * </p>
+ *
+ * @param <Locator> compiled locator type
+ *
+ * @since 1.9.9
+ */
+@SuppressWarnings("unused")
+public class LocatorCache<Locator> {
+
+    private final int capacity;
+    private final Map<Key, Locator> locators;
+    private final ReferenceQueue<Object> collectedSources = new ReferenceQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public LocatorCache(int capacity) {
+        this.capacity = capacity;
+        this.locators = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Locator> eldest) {
+                return size() > LocatorCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached locator of a given key, compiling and caching it on a miss
+     *
+     * @param key cache key
+     * @param compiler compiles the locator on a miss
+     * @return returns the locator
+     */
+    public Locator get(Key key, Supplier<Locator> compiler){
+        synchronized (locators) {
+            Locator locator = locators.get(key);
+            if (locator != null) {
+                hits.increment();
+                return locator;
+            }
+        }
+        misses.increment();
+        Locator locator = compiler.get();
+        synchronized (locators) {
+            expungeCollectedSources();
+            Locator cached = locators.putIfAbsent(key.registered(collectedSources), locator);
+            return cached != null ? cached : locator;
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        synchronized (locators) {return locators.size();}
+    }
+
+    /**
+     * Drops every cached locator and resets the counters
+     */
+    public void clear(){
+        synchronized (locators) {locators.clear();}
+        hits.reset();
+        misses.reset();
+    }
+
+    private void expungeCollectedSources(){
+        Reference<?> collected;
+        while ((collected = collectedSources.poll()) != null) locators.remove(((SourceReference) collected).key);
+    }
+
+    @Override
+    public String toString() {
+        return "LocatorCache{" +
+                "size=" + size() +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                '}';
+    }
+
+    /**
+     * Cache key that matches its (weakly referenced) source by identity and its inputs by value
+     */
+    public static final class Key {
+        private final Reference<Object> source;
+        private final List<Object> inputs;
+        private final int hashCode;
+
+        private Key(Reference<Object> source, List<Object> inputs, int hashCode) {
+            this.source = source;
+            this.inputs = inputs;
+            this.hashCode = hashCode;
+        }
+
+        public static Key of(Object source, Object... inputs){
+            List<Object> values = Arrays.asList(inputs);
+            return new Key(new WeakReference<>(source), values, 31 * System.identityHashCode(source) + values.hashCode());
+        }
+
+        /**
+         * Returns a copy of this key whose source is enqueued once collected
+         */
+        private Key registered(ReferenceQueue<Object> queue){
+            SourceReference reference = new SourceReference(source.get(), queue);
+            reference.key = new Key(reference, inputs, hashCode);
+            return reference.key;
+        }
+
+        public Object source() {
+            return source.get();
+        }
+
+        public List<Object> inputs() {
+            return inputs;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) return true;
+            if (!(object instanceof Key key) || key.hashCode != hashCode) return false;
+            Object source = source();
+            return source != null && key.source() == source && key.inputs.equals(inputs);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Source reference of a cached key, used to find the entry to drop once the source is collected
+     */
+    private static final class SourceReference extends WeakReference<Object> {
+        private Key key;
+
+        SourceReference(Object source, ReferenceQueue<Object> queue) {
+            super(source, queue);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package pickleib.utilities.page.repository;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.pagefactory.ByAll;
+import pickleib.enums.SelectorType;
+import pickleib.exceptions.PickleibException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable index of a JSON object repository.
+ *
+ * <p>
+ * The {@code pages} array is parsed once into a hash index of page name to element name to element JSON.
+ * Indexes of JSON files are reloaded when the last modified time of the file changes. Indexes of repository objects are cached
+ * per instance (weakly, by identity), an instance that is modified in place must be {@link #invalidate(JsonObject) invalidated}.
+ * </p>
+ *
+ * @since 1.9.9
+ */
+@SuppressWarnings("unused")
+public class JsonRepositoryIndex {
+
+    private static final Map<Path, JsonRepositoryIndex> fileIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * Indexes of repository objects, keyed weakly by instance identity (JsonObject equality would hash the whole repository)
+     */
+    private static final Map<SourceKey, JsonRepositoryIndex> objectIndexes = new HashMap<>();
+    private static final ReferenceQueue<JsonObject> collectedSources = new ReferenceQueue<>();
+
+    private final FileTime lastModified;
+    private final Map<String, Map<String, JsonObject>> pages;
+
+    JsonRepositoryIndex(JsonObject source, FileTime lastModified) {
+        this.lastModified = lastModified;
+        Map<String, Map<String, JsonObject>> pages = new HashMap<>();
+        for (JsonElement page : source.getAsJsonArray("pages")) {
+            JsonObject pageJson = page.getAsJsonObject();
+            Map<String, JsonObject> elements = new HashMap<>();
+            for (JsonElement element : pageJson.getAsJsonArray("elements")) {
+                JsonObject elementJson = element.getAsJsonObject();
+                elements.putIfAbsent(elementJson.get("elementName").getAsJsonPrimitive().getAsString(), elementJson);
+            }
+            pages.putIfAbsent(pageJson.get("name").getAsJsonPrimitive().getAsString(), Map.copyOf(elements));
+        }
+        this.pages = Map.copyOf(pages);
+    }
+
+    /**
+     * Returns the index of a given repository object, the index is reused while the same instance is passed
+     *
+     * @param objectRepository repository json
+     * @return returns the index
+     */
+    public static JsonRepositoryIndex of(JsonObject objectRepository){
+        synchronized (objectIndexes) {
+            expungeCollectedSources();
+            JsonRepositoryIndex index = objectIndexes.get(new SourceKey(objectRepository, null));
+            if (index == null) objectIndexes.put(new SourceKey(objectRepository, collectedSources), index = new JsonRepositoryIndex(objectRepository, null));
+            return index;
+        }
+    }
+
+    /**
+     * Drops the index of a given repository object, use after modifying the instance in place
+     *
+     * @param objectRepository repository json
+     */
+    public static void invalidate(JsonObject objectRepository){
+        synchronized (objectIndexes) {
+            objectIndexes.remove(new SourceKey(objectRepository, null));
+        }
+    }
+
+    private static void expungeCollectedSources(){
+        Reference<? extends JsonObject> collected;
+        while ((collected = collectedSources.poll()) != null) objectIndexes.remove((SourceKey) collected);
+    }
+
+    /**
+     * Returns the index of a given repository file, the file is parsed again if it was modified since it was indexed
+     *
+     * @param objectRepository repository json file
+     * @return returns the index
+     */
+    public static JsonRepositoryIndex of(Path objectRepository){
+        Path path = objectRepository.toAbsolutePath().normalize();
+        try {
+            FileTime lastModified = Files.getLastModifiedTime(path);
+            JsonRepositoryIndex index = fileIndexes.get(path);
+            if (index != null && index.lastModified.equals(lastModified)) return index;
+            try (Reader reader = Files.newBufferedReader(path)) {
+                index = new JsonRepositoryIndex(JsonParser.parseReader(reader).getAsJsonObject(), lastModified);
+            }
+            fileIndexes.put(path, index);
+            return index;
+        }
+        catch (IOException exception) {throw new PickleibException(exception);}
+    }
+
+    /**
+     * Acquires the selectors of an element
+     *
+     * @param elementName target element name
+     * @param pageName page name that includes target element selectors
+     * @return returns the element selectors, or null if the page does not contain the element
+     * @throws PickleibException if the repository does not contain the page
+     */
+    public JsonObject getElementJson(String elementName, String pageName){
+        Map<String, JsonObject> elements = pages.get(pageName);
+        if (elements == null) throw new PickleibException("Object repository does not contain a page named " + pageName + "!");
+        return elements.get(elementName);
+    }
+
+    /**
+     * Returns the page names of the repository
+     */
+    public Set<String> getPageNames(){
+        return pages.keySet();
+    }
+
+    /**
+     * Builds a locator from the selectors of an element, selectors that the element does not define are skipped
+     *
+     * @param elementJson element selectors
+     * @param selectorTypes desired selector types
+     * @return returns the locator
+     */
+    public static ByAll compileByAll(JsonObject elementJson, SelectorType... selectorTypes){
+        List<By> locators = new ArrayList<>();
+        for (SelectorType selectorType:selectorTypes) {
+            try {
+                By locator;
+                switch (selectorType){
+                    case id ->          locator = By.id(elementJson.get("id").getAsJsonPrimitive().getAsString());
+                    case name ->        locator = By.name(elementJson.get("name").getAsJsonPrimitive().getAsString());
+                    case tagName ->     locator = By.tagName(elementJson.get("tagName").getAsJsonPrimitive().getAsString());
+                    case className ->   locator = By.className(elementJson.get("className").getAsJsonPrimitive().getAsString());
+                    case css ->         locator = By.cssSelector(elementJson.get("cssSelector").getAsJsonPrimitive().getAsString());
+                    case xpath ->       locator = By.xpath(elementJson.get("xpath").getAsJsonPrimitive().getAsString());
+                    case text -> {
+                        String text = elementJson.get("text").getAsJsonPrimitive().getAsString();
+                        locator = By.xpath("//*[text()='" + text + "']");
+                    }
+                    default -> throw new EnumConstantNotPresentException(SelectorType.class, selectorType.name());
+                }
+                locators.add(locator);
+            }
+            catch (NullPointerException | IllegalStateException ignored){}
+
+        }
+        return new ByAll(locators.toArray(new By[0]));
+    }
+
+    /**
+     * Weak reference to a repository object that matches by identity, a collected key only matches itself
+     */
+    private static final class SourceKey extends WeakReference<JsonObject> {
+        private final int hashCode;
+
+        SourceKey(JsonObject source, ReferenceQueue<JsonObject> queue) {
+            super(source, queue);
+            this.hashCode = System.identityHashCode(source);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) return true;
+            return object instanceof SourceKey key && key.get() != null && key.get() == get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package pickleib.utilities.page.repository;
+
+import org.openqa.selenium.remote.RemoteWebDriver;
+import pickleib.driver.DriverRegistry;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A lazily built, per-driver index of a {@link PageRepository}.
+ *
+ * <p>
+ * The object repository is instantiated once for each driver session instead of once per element lookup.
+ * Page objects are resolved by name on first access and their fields are read through pre-resolved
+ * {@link MethodHandle} accessors, which are shared JVM-wide per class.
+ * The index is invalidated automatically when the driver provided by the {@code driverSupplier} changes.
+ * Page objects hold their driver, so snapshots are not collected with their session: they are evicted via {@link #evict(RemoteWebDriver)}
+ * when the session is quit or released.
+ * </p>
+ *
+ * @param <ObjectRepository> page repository type
+ *
+ * @since 1.9.9
+ */
+public class PageRepositoryIndex<ObjectRepository extends PageRepository> {
+
+    /**
+     * Field accessors per class, resolved once per class and reused by every index.
+     */
+    private static final ClassValue<Map<String, MethodHandle>> accessors = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return resolveAccessors(type);
+        }
+    };
+
+    /**
+     * Every live index, so that sessions can be evicted from all of them at once.
+     */
+    private static final Set<PageRepositoryIndex<?>> indexes = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private static final Printer log = new Printer(PageRepositoryIndex.class);
+
+    private final Class<ObjectRepository> repositoryClass;
+    private final Supplier<RemoteWebDriver> driverSupplier;
+
+    /**
+     * Repository snapshots per driver session, held until the session is evicted.
+     */
+    private final Map<RemoteWebDriver, Snapshot<ObjectRepository>> snapshots = new ConcurrentHashMap<>();
+
+    public PageRepositoryIndex(Class<ObjectRepository> repositoryClass, Supplier<RemoteWebDriver> driverSupplier) {
+        this.repositoryClass = repositoryClass;
+        this.driverSupplier = driverSupplier;
+        indexes.add(this);
+    }
+
+    /**
+     * Drops the cached repository instances of a given driver from every index, use when the session is quit or released
+     *
+     * @param driver target driver
+     */
+    public static void evict(RemoteWebDriver driver){
+        if (driver == null) return;
+        synchronized (indexes) {
+            for (PageRepositoryIndex<?> index : indexes) index.invalidate(driver);
+        }
+    }
+
+    /**
+     * Returns the object repository instance of the current driver, instantiating it on first access
+     *
+     * @return returns the object repository
+     */
+    public ObjectRepository getRepository(){
+        return snapshot().repository;
+    }
+
+    /**
+     * Acquires a page object instance from the object repository by its field name
+     *
+     * @param pageName name of the page instance
+     * @return returns the page object
+     * @throws PickleibException if the repository does not contain the page
+     */
+    public Object getPage(String pageName){
+        Snapshot<ObjectRepository> snapshot = snapshot();
+        Object page = snapshot.pages.computeIfAbsent(pageName, name -> Optional.ofNullable(getFieldValue(snapshot.repository, name)))
+                .orElse(null);
+        if (page == null)
+            throw new PickleibException("ObjectRepository does not contain an instance of " + pageName + " object!");
+        return page;
+    }
+
+    /**
+     * Acquires the value of a field of a page object
+     *
+     * @param fieldName field name
+     * @param pageName name of the page instance
+     * @return returns the field value, or null if the page object does not declare the field
+     */
+    public Object getPageField(String fieldName, String pageName){
+        return getFieldValue(getPage(pageName), fieldName);
+    }
+
+    /**
+     * Acquires a map of all fields of a page object
+     *
+     * @param pageName name of the page instance
+     * @return returns the map of fields
+     */
+    public Map<String, Object> getPageFields(String pageName){
+        return getFields(getPage(pageName));
+    }
+
+    /**
+     * Drops every cached repository instance, forcing the index to be rebuilt on next access
+     */
+    public void invalidate(){
+        snapshots.clear();
+    }
+
+    /**
+     * Drops the cached repository instance of a given driver
+     *
+     * @param driver target driver
+     */
+    public void invalidate(RemoteWebDriver driver){
+        snapshots.remove(driver);
+    }
+
+    /**
+     * Reads a field of a given object, declared or inherited, by using its cached accessor
+     *
+     * @param object target object
+     * @param fieldName field name
+     * @return returns the field value, or null if the field is not declared
+     */
+    public static Object getFieldValue(Object object, String fieldName){
+        if (object == null) return null;
+        MethodHandle getter = accessors.get(object.getClass()).get(fieldName);
+        if (getter == null) return null;
+        try {
+            return getter.invokeExact(object);
+        }
+        catch (Throwable throwable) {throw new PickleibException(new InvocationTargetException(throwable));}
+    }
+
+    /**
+     * Acquires a map of fields of a given object, declared or inherited, by using cached accessors
+     *
+     * @param object target object
+     * @return returns the map of fields
+     */
+    public static Map<String, Object> getFields(Object object){
+        Map<String, Object> fields = new HashMap<>();
+        if (object == null) return fields;
+        for (String fieldName : accessors.get(object.getClass()).keySet())
+            fields.put(fieldName, getFieldValue(object, fieldName));
+        return fields;
+    }
+
+    private Snapshot<ObjectRepository> snapshot(){
+        RemoteWebDriver driver = driverSupplier.get();
+        if (driver == null) throw new PickleibException(
+                "The driver is not initialized for the " + DriverRegistry.currentScope() + " scope, " +
+                        repositoryClass.getSimpleName() + " pages cannot be acquired before the driver is initialized!"
+        );
+        return snapshots.computeIfAbsent(driver, session -> new Snapshot<>(instantiate()));
+    }
+
+    private ObjectRepository instantiate(){
+        try {
+            return repositoryClass.getConstructor().newInstance();
+        }
+        catch (
+                InstantiationException |
+                IllegalAccessException |
+                NoSuchMethodException  |
+                InvocationTargetException e
+        ) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Resolves the accessors of the fields of a class and its superclasses, fields of subclasses hide the ones they shadow
+     */
+    private static Map<String, MethodHandle> resolveAccessors(Class<?> type){
+        Map<String, MethodHandle> handles = new HashMap<>();
+        MethodType accessorType = MethodType.methodType(Object.class, Object.class);
+        for (Class<?> declaringClass = type; declaringClass != null && declaringClass != Object.class; declaringClass = declaringClass.getSuperclass()) {
+            MethodHandles.Lookup lookup;
+            try {lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());}
+            catch (IllegalAccessException | SecurityException exception) {lookup = MethodHandles.lookup();}
+
+            for (Field field : declaringClass.getDeclaredFields()) {
+                if (handles.containsKey(field.getName())) continue;
+                try {
+                    MethodHandle getter;
+                    try {getter = lookup.unreflectGetter(field);}
+                    catch (IllegalAccessException exception) {
+                        field.setAccessible(true);
+                        getter = MethodHandles.lookup().unreflectGetter(field);
+                    }
+                    if (Modifier.isStatic(field.getModifiers()))
+                        getter = MethodHandles.dropArguments(getter, 0, type);
+                    handles.put(field.getName(), getter.asType(accessorType));
+                }
+                catch (IllegalAccessException | RuntimeException exception) {
+                    log.warning("Field " + declaringClass.getSimpleName() + "." + field.getName() + " could not be resolved: " + exception.getMessage());
+                }
+            }
+        }
+        return Collections.unmodifiableMap(handles);
+    }
+
+    /**
+     * Repository instance and resolved page objects of a single driver session
+     */
+    private static class Snapshot<ObjectRepository> {
+        final ObjectRepository repository;
+        final Map<String, Optional<Object>> pages = new ConcurrentHashMap<>();
+
+        Snapshot(ObjectRepository repository) {
+            this.repository = repository;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package pickleib.utilities.polling;
+
+import context.ContextStore;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Determines how long a {@link Poller} sleeps between two attempts
+ *
+ * @since 1.9.9
+ */
+@FunctionalInterface
+public interface BackoffStrategy {
+
+    /**
+     * Returns the delay before the next attempt
+     *
+     * @param attempt number of the failed attempt (starts from 1)
+     * @return returns the delay in milliseconds
+     */
+    long delay(int attempt);
+
+    /**
+     * Waits the same amount of time between each attempt
+     *
+     * @param interval delay in milliseconds
+     * @return returns the strategy
+     */
+    static BackoffStrategy fixed(long interval){
+        return attempt -> interval;
+    }
+
+    /**
+     * Multiplies the delay by a given factor after each attempt, up to a maximum delay
+     *
+     * @param initialInterval delay after the first attempt (milliseconds)
+     * @param multiplier growth factor
+     * @param maxInterval maximum delay (milliseconds)
+     * @return returns the strategy
+     */
+    static BackoffStrategy exponential(long initialInterval, double multiplier, long maxInterval){
+        return attempt -> (long) Math.min(maxInterval, initialInterval * Math.pow(multiplier, attempt - 1));
+    }
+
+    /**
+     * Exponential backoff with full jitter, the delay is picked randomly between zero and the exponential delay
+     *
+     * @param initialInterval delay after the first attempt (milliseconds)
+     * @param maxInterval maximum delay (milliseconds)
+     * @return returns the strategy
+     */
+    static BackoffStrategy jittered(long initialInterval, long maxInterval){
+        BackoffStrategy exponential = exponential(initialInterval, 2, maxInterval);
+        return attempt -> ThreadLocalRandom.current().nextLong(exponential.delay(attempt) + 1);
+    }
+
+    /**
+     * Creates the strategy configured by the polling-strategy (fixed, exponential or jittered), polling-interval
+     * and polling-max-interval properties
+     *
+     * @return returns the configured strategy
+     */
+    static BackoffStrategy fromContext(){
+        long interval = Long.parseLong(ContextStore.get("polling-interval", "100"));
+        long maxInterval = Long.parseLong(ContextStore.get("polling-max-interval", "1000"));
+        return switch (ContextStore.get("polling-strategy", "exponential").toLowerCase()) {
+            case "fixed" -> fixed(interval);
+            case "jittered" -> jittered(interval, maxInterval);
+            default -> exponential(interval, 2, maxInterval);
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package pickleib.utilities.polling;
+
+/**
+ * A single attempt of a {@link Poller}
+ *
+ * @param <Result> result type
+ *
+ * @since 1.9.9
+ */
+@FunctionalInterface
+public interface Invocation<Result> {
+
+    /**
+     * Performs an attempt
+     *
+     * @param statistics statistics of the attempts so far
+     * @return returns the result, or null if the condition is not satisfied yet
+     */
+    Result invoke(PollingStatistics statistics);
+}
@@ -0,0 +1,134 @@
+package pickleib.utilities.polling;
+
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Repeats an {@link Invocation} until it returns a result or the timeout is reached, sleeping between attempts
+ * as determined by a {@link BackoffStrategy}.
+ *
+ * <p>
+ * Exceptions thrown by an attempt are classified as retryable or fatal. Retryable exceptions are recorded in the
+ * {@link PollingStatistics} and the poll continues, fatal exceptions are rethrown immediately.
+ * By default, every {@link WebDriverException} is retryable, except the ones caused by a lost driver session.
+ * </p>
+ *
+ * @since 1.9.9
+ */
+@SuppressWarnings("unused")
+public class Poller {
+
+    /**
+     * Exceptions that indicate the driver session itself is gone, retrying them only burns the timeout
+     */
+    static final List<Class<? extends WebDriverException>> sessionExceptions = List.of(
+            NoSuchSessionException.class,
+            SessionNotCreatedException.class,
+            UnreachableBrowserException.class
+    );
+
+    private final long timeout;
+    private final BackoffStrategy backoff;
+    private final Printer log;
+    private Predicate<RuntimeException> retryable = Poller::isRetryable;
+
+    /**
+     * @param timeout polling timeout (milliseconds)
+     * @param backoff delay strategy between attempts
+     * @param log logger used for iteration warnings
+     */
+    public Poller(long timeout, BackoffStrategy backoff, Printer log) {
+        this.timeout = timeout;
+        this.backoff = backoff;
+        this.log = log;
+    }
+
+    /**
+     * Creates a poller with the backoff strategy configured in the context
+     *
+     * @param timeout polling timeout (milliseconds)
+     * @param log logger used for iteration warnings
+     * @return returns the poller
+     */
+    public static Poller fromContext(long timeout, Printer log){
+        return new Poller(timeout, BackoffStrategy.fromContext(), log);
+    }
+
+    /**
+     * Replaces the retryable exception classifier
+     *
+     * @param retryable returns true if a given exception should be retried
+     * @return returns this poller
+     */
+    public Poller retryingOn(Predicate<RuntimeException> retryable){
+        this.retryable = retryable;
+        return this;
+    }
+
+    /**
+     * Default exception classifier, retries web driver exceptions unless the driver session is lost
+     *
+     * @param exception caught exception
+     * @return returns true if the exception is retryable
+     */
+    public static boolean isRetryable(RuntimeException exception){
+        if (!(exception instanceof WebDriverException)) return false;
+        for (Class<? extends WebDriverException> sessionException : sessionExceptions)
+            if (sessionException.isInstance(exception)) return false;
+        return true;
+    }
+
+    /**
+     * Invokes a given invocation until it returns a non-null result or the timeout is reached
+     *
+     * @param invocation attempt to be repeated
+     * @return returns the result with attempt statistics
+     * @param <Result> result type
+     */
+    public <Result> PollingResult<Result> poll(Invocation<Result> invocation){
+        PollingStatistics statistics = new PollingStatistics();
+        String caughtException = null;
+        Result result = null;
+        do {
+            statistics.attempted();
+            try {
+                result = invocation.invoke(statistics);
+                if (result != null) break;
+            }
+            catch (RuntimeException exception){
+                if (!retryable.test(exception)) throw exception;
+                if (!exception.getClass().getName().equals(caughtException)) {
+                    caughtException = exception.getClass().getName();
+                    log.warning("Iterating... (" + caughtException + ")");
+                }
+                statistics.failed(exception);
+            }
+        }
+        while (sleep(backoff.delay(statistics.getAttempts()), statistics));
+        if (statistics.getFailures() > 0) log.warning("Iterated " + statistics.getFailures() + " time(s)!");
+        return new PollingResult<>(result, statistics);
+    }
+
+    /**
+     * Sleeps until the next attempt, unless it would pass the timeout
+     *
+     * @return returns false if the timeout is reached
+     */
+    private boolean sleep(long delay, PollingStatistics statistics){
+        long remaining = timeout - statistics.getElapsedTime();
+        if (remaining <= 0) return false;
+        try {Thread.sleep(Math.min(delay, remaining));}
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new PickleibException(exception);
+        }
+        return true;
+    }
+}
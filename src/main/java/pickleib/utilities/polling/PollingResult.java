@@ -0,0 +1,43 @@
+package pickleib.utilities.polling;
+
+import java.util.function.Function;
+
+/**
+ * Outcome of a {@link Poller#poll(Invocation)} call
+ *
+ * @param value result of the successful attempt, or null if the poll timed out
+ * @param statistics attempt statistics
+ * @param <Result> result type
+ *
+ * @since 1.9.9
+ */
+public record PollingResult<Result>(Result value, PollingStatistics statistics) {
+
+    /**
+     * Returns true if an attempt satisfied the condition before the timeout
+     */
+    public boolean isSuccessful(){
+        return value != null;
+    }
+
+    /**
+     * Returns the result, or a given default if the poll timed out
+     *
+     * @param other default value
+     * @return returns the result
+     */
+    public Result orElse(Result other){
+        return value != null ? value : other;
+    }
+
+    /**
+     * Returns the result, or throws the exception created by a given function if the poll timed out
+     *
+     * @param exceptionFunction creates the exception from the attempt statistics
+     * @return returns the result
+     */
+    public Result orElseThrow(Function<PollingStatistics, ? extends RuntimeException> exceptionFunction){
+        if (value == null) throw exceptionFunction.apply(statistics);
+        return value;
+    }
+}
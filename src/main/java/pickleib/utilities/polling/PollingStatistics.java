@@ -0,0 +1,62 @@
+package pickleib.utilities.polling;
+
+/**
+ * Attempt statistics of a single {@link Poller#poll(Invocation)} call
+ *
+ * @since 1.9.9
+ */
+@SuppressWarnings("unused")
+public class PollingStatistics {
+
+    private final long startTime = System.nanoTime();
+    private int attempts;
+    private int failures;
+    private RuntimeException lastException;
+
+    void attempted(){
+        attempts++;
+    }
+
+    void failed(RuntimeException exception){
+        failures++;
+        lastException = exception;
+    }
+
+    /**
+     * Returns the number of attempts made so far, including the ongoing one
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Returns the number of attempts that threw a retryable exception
+     */
+    public int getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns the most recent retryable exception, or null if no attempt has failed
+     */
+    public RuntimeException getLastException() {
+        return lastException;
+    }
+
+    /**
+     * Returns the time passed since the first attempt (milliseconds)
+     */
+    public long getElapsedTime() {
+        return (System.nanoTime() - startTime) / 1_000_000;
+    }
+
+    @Override
+    public String toString() {
+        return "PollingStatistics{" +
+                "attempts=" + attempts +
+                ", failures=" + failures +
+                ", elapsedTime=" + getElapsedTime() + "ms" +
+                ", lastException=" + (lastException != null ? lastException.getClass().getSimpleName() : null) +
+                '}';
+    }
+}
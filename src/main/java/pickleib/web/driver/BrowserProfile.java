@@ -0,0 +1,206 @@
+package pickleib.web.driver;
+
+import context.ContextStore;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Browser option presets, selected by the browser-profile property.
+ *
+ * <p>
+ * The {@link #throughput} profile trades rendering fidelity for page load time: images, web fonts and animations are disabled,
+ * third party tags matching the blocked-url-patterns property are blocked, GPU & shared memory usage is disabled,
+ * the browser profile lives on tmpfs (when available) and pages load eagerly.
+ * Chrome blocks URLs via CDP, Firefox via a proxy auto-config that routes blocked URLs to an unreachable proxy (overriding proxy settings).
+ * Page load times can be logged with the page-load-timing property to measure the gain.
+ * The profile directory of a session is deleted once the session quits.
+ * </p>
+ *
+ * <p>
+ * Profiles are applied to local sessions only, Selenium Grid sessions are requested with the browser name capability alone.
+ * </p>
+ *
+ * @since 1.9.9
+ */
+@SuppressWarnings("unused")
+public enum BrowserProfile {
+    /**
+     * options are left as configured
+     */
+    standard,
+    /**
+     * options are tuned for page load time
+     */
+    throughput;
+
+    /**
+     * URL patterns (* wildcards) blocked by the throughput profile
+     */
+    static List<String> blockedUrlPatterns = parsePatterns(ContextStore.get(
+            "blocked-url-patterns",
+            "*google-analytics.com*,*googletagmanager.com*,*doubleclick.net*,*googlesyndication.com*," +
+                    "*googleadservices.com*,*facebook.net*,*hotjar.com*,*segment.io*,*optimizely.com*,*newrelic.com*,*nr-data.net*"
+    ));
+
+    /**
+     * Web font patterns blocked by the throughput profile on Chrome, which has no switch to disable them
+     */
+    static final List<String> FONT_PATTERNS = List.of("*.woff", "*.woff2", "*.ttf", "*.otf", "*.eot");
+
+    private static final Printer log = new Printer(BrowserProfile.class);
+    private static final Map<Capabilities, Path> pendingDirectories = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final Map<RemoteWebDriver, Path> sessionDirectories = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    static {Runtime.getRuntime().addShutdownHook(new Thread(BrowserProfile::deleteProfileDirectories));}
+
+    /**
+     * Returns the profile selected by the browser-profile property
+     *
+     * @throws PickleibException if the property does not name a profile
+     */
+    public static BrowserProfile fromContext(){
+        String profile = ContextStore.get("browser-profile", "standard");
+        try {return valueOf(profile.trim().toLowerCase());}
+        catch (IllegalArgumentException exception) {
+            throw new PickleibException("No browser profile named \"" + profile + "\", valid profiles are " + Arrays.toString(values()) + "!");
+        }
+    }
+
+    /**
+     * Applies the profile to Chrome options
+     */
+    public ChromeOptions apply(ChromeOptions options){
+        if (this == standard) return options;
+        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        options.addArguments(
+                "--blink-settings=imagesEnabled=false",
+                "--force-prefers-reduced-motion",
+                "--disable-gpu",
+                "--disable-dev-shm-usage",
+                "--disable-extensions",
+                "--disable-background-networking",
+                "--disable-component-update",
+                "--user-data-dir=" + newProfileDirectory(options)
+        );
+        options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+        return options;
+    }
+
+    /**
+     * Applies the profile to Firefox options
+     */
+    public FirefoxOptions apply(FirefoxOptions options){
+        if (this == standard) return options;
+        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        options.addPreference("permissions.default.image", 2);
+        options.addPreference("browser.display.use_document_fonts", 0);
+        options.addPreference("gfx.downloadable_fonts.enabled", false);
+        options.addPreference("ui.prefersReducedMotion", 1);
+        options.addPreference("toolkit.cosmeticAnimations.enabled", false);
+        options.addPreference("layers.acceleration.disabled", true);
+        options.addPreference("app.update.auto", false);
+        if (!blockedUrlPatterns.isEmpty()) {
+            options.addPreference("network.proxy.type", 2);
+            options.addPreference("network.proxy.autoconfig_url", "data:application/x-ns-proxy-autoconfig," + proxyAutoConfig());
+        }
+        options.addArguments("-profile", newProfileDirectory(options).toString());
+        return options;
+    }
+
+    /**
+     * Applies the settings that can only be applied to a running session (URL blocking on Chromium, kept across scenarios)
+     * and binds the profile directory of the options to the session
+     *
+     * @param driver session launched with the options
+     * @param options options the profile was applied to
+     */
+    public void onLaunch(RemoteWebDriver driver, Capabilities options){
+        if (this == standard) return;
+        Path directory = pendingDirectories.remove(options);
+        if (directory != null) sessionDirectories.put(driver, directory);
+        if (!(driver instanceof ChromiumDriver)) return;
+        List<String> patterns = new ArrayList<>(blockedUrlPatterns);
+        patterns.addAll(FONT_PATTERNS);
+        try {NetworkInterception.of(driver).baseline(patterns);}
+        catch (WebDriverException exception) {log.warning("URLs could not be blocked: " + exception.getClass().getSimpleName());}
+    }
+
+    /**
+     * Deletes the profile directory of a session, use after quitting the session
+     *
+     * @param driver session driver
+     */
+    public static void discard(RemoteWebDriver driver){
+        Path directory = sessionDirectories.remove(driver);
+        if (directory != null) delete(directory);
+    }
+
+    /**
+     * Returns a proxy auto-config script routing blocked URLs to an unreachable proxy, so that they fail immediately
+     */
+    static String proxyAutoConfig(){
+        StringBuilder script = new StringBuilder("function FindProxyForURL(url, host) {");
+        for (String pattern : blockedUrlPatterns)
+            script.append(" if (shExpMatch(url, '").append(pattern.replace("'", "")).append("')) return 'PROXY 127.0.0.1:9';");
+        script.append(" return 'DIRECT'; }");
+        return URLEncoder.encode(script.toString(), StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    /**
+     * Creates a browser profile directory on tmpfs (/dev/shm) if available,
+     * deleted once the session of the options quits (or on shutdown if no session is launched)
+     */
+    private static Path newProfileDirectory(Capabilities options){
+        Path shm = Path.of("/dev/shm");
+        try {
+            Path directory = Files.isDirectory(shm) && Files.isWritable(shm) ?
+                    Files.createTempDirectory(shm, "pickleib-profile-") :
+                    Files.createTempDirectory("pickleib-profile-");
+            Path replaced = pendingDirectories.put(options, directory);
+            if (replaced != null) delete(replaced);
+            return directory;
+        }
+        catch (IOException exception) {throw new PickleibException(exception);}
+    }
+
+    private static void deleteProfileDirectories(){
+        synchronized (pendingDirectories) {pendingDirectories.values().forEach(BrowserProfile::delete);}
+        synchronized (sessionDirectories) {sessionDirectories.values().forEach(BrowserProfile::delete);}
+    }
+
+    private static void delete(Path directory){
+        try (var paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+        catch (IOException | UncheckedIOException exception) {
+            log.warning("Browser profile directory " + directory + " could not be deleted: " + exception.getMessage());
+        }
+    }
+
+    static List<String> parsePatterns(String patterns){
+        return Arrays.stream(patterns.split(",")).map(String::trim).filter(pattern -> !pattern.isEmpty()).toList();
+    }
+
+    public static List<String> getBlockedUrlPatterns() {
+        return blockedUrlPatterns;
+    }
+
+    public static void setBlockedUrlPatterns(List<String> blockedUrlPatterns) {
+        BrowserProfile.blockedUrlPatterns = List.copyOf(blockedUrlPatterns);
+    }
+}
@@ -0,0 +1,230 @@
+package pickleib.web.driver;
+
+import context.ContextStore;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import utils.Printer;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static utils.StringUtilities.Color.*;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * Resolves driver binaries through WebDriverManager once per JVM, instead of once per session.
+ *
+ * <p>
+ * Resolved paths are also recorded on disk, keyed by the browser type and the installed browser binary (path & modification time),
+ * so that a browser update invalidates the record. Each record is guarded by a lock file,
+ * so that concurrent forks wait for a single resolution instead of racing each other.
+ * Within a JVM, concurrent resolutions of a browser type wait for the first one, without blocking other browser types.
+ * </p>
+ *
+ * @since 1.9.9
+ */
+@SuppressWarnings("unused")
+public class DriverBinaryResolver {
+
+    /**
+     * directory of the resolved driver records
+     */
+    static Path cacheDirectory = Path.of(ContextStore.get(
+            "driver-cache-dir",
+            Path.of(System.getProperty("user.home"), ".cache", "pickleib", "drivers").toString()
+    ));
+
+    private static final Printer log = new Printer(DriverBinaryResolver.class);
+    private static final Map<WebDriverFactory.BrowserType, CompletableFuture<Resolution>> resolutions = new ConcurrentHashMap<>();
+
+    /**
+     * creates the driver manager of a browser type, replaceable to resolve without WebDriverManager
+     */
+    static Function<WebDriverFactory.BrowserType, Manager> managers = DriverBinaryResolver::webDriverManager;
+
+    /**
+     * A resolved driver binary
+     *
+     * @param driverPath driver binary path
+     * @param cached true if the path was read from a disk record rather than resolved by WebDriverManager
+     */
+    record Resolution(String driverPath, boolean cached) {}
+
+    /**
+     * The resolution steps of a browser type
+     */
+    interface Manager {
+        /**
+         * Returns the installed browser binary, if it can be detected
+         */
+        Optional<Path> browserPath();
+
+        /**
+         * Resolves (downloading if needed) the driver binary
+         *
+         * @return returns the driver binary path
+         */
+        String setup();
+
+        /**
+         * Drops the resolution cache of the manager
+         */
+        void clearResolutionCache();
+    }
+
+    private DriverBinaryResolver() {}
+
+    /**
+     * Resolves the driver binary of a browser type and sets its system property, resolving at most once per JVM
+     *
+     * @param browserType driver type
+     * @return returns the driver binary path
+     */
+    public static String resolve(WebDriverFactory.BrowserType browserType){
+        Resolution resolution = resolution(browserType);
+        String property = driverProperty(browserType);
+        if (property != null && resolution.driverPath() != null) System.setProperty(property, resolution.driverPath());
+        return resolution.driverPath();
+    }
+
+    /**
+     * Drops the resolution of a browser type, so that the next resolution asks WebDriverManager again (ex: after a driver/browser version mismatch)
+     *
+     * @param browserType driver type
+     * @return returns true if the dropped resolution was read from a disk record, meaning a fresh resolution might fix the mismatch
+     */
+    public static boolean invalidate(WebDriverFactory.BrowserType browserType){
+        CompletableFuture<Resolution> resolution = resolutions.remove(browserType);
+        if (resolution == null || !resolution.isDone() || resolution.isCompletedExceptionally() || !resolution.join().cached()) return false;
+        Manager manager = managers.apply(browserType);
+        try {
+            Files.deleteIfExists(recordOf(browserType, manager));
+            manager.clearResolutionCache();
+        }
+        catch (IOException exception) {log.warning("Driver record could not be deleted: " + exception.getMessage());}
+        log.warning("Invalidated the cached " + browserType.getDriverName() + " driver");
+        return true;
+    }
+
+    /**
+     * Returns the resolution of a browser type, the first caller resolves it outside the map while the others wait for it
+     */
+    private static Resolution resolution(WebDriverFactory.BrowserType browserType){
+        CompletableFuture<Resolution> resolution = new CompletableFuture<>();
+        CompletableFuture<Resolution> existing = resolutions.putIfAbsent(browserType, resolution);
+        if (existing == null) {
+            try {resolution.complete(resolveOnce(browserType));}
+            catch (RuntimeException exception) {
+                resolutions.remove(browserType, resolution);
+                resolution.completeExceptionally(exception);
+                throw exception;
+            }
+            existing = resolution;
+        }
+        try {return existing.join();}
+        catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) throw cause;
+            throw exception;
+        }
+    }
+
+    private static Resolution resolveOnce(WebDriverFactory.BrowserType browserType){
+        Manager manager = managers.apply(browserType);
+        if (driverProperty(browserType) == null) return new Resolution(manager.setup(), false);
+        try {
+            Files.createDirectories(cacheDirectory);
+            Path record = recordOf(browserType, manager);
+            Path lockFile = record.resolveSibling(record.getFileName() + ".lock");
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                if (Files.exists(record)) {
+                    String driverPath = Files.readString(record).trim();
+                    if (Files.isExecutable(Path.of(driverPath))) {
+                        log.info("Using the cached " + highlighted(PURPLE, browserType.getDriverName()) + highlighted(GRAY, " driver at " + driverPath));
+                        return new Resolution(driverPath, true);
+                    }
+                }
+                String driverPath = manager.setup();
+                if (driverPath != null) Files.writeString(record, driverPath);
+                return new Resolution(driverPath, false);
+            }
+        }
+        catch (IOException exception) {
+            log.warning("Driver cache is not available (" + exception.getMessage() + "), resolving without it");
+            return new Resolution(manager.setup(), false);
+        }
+    }
+
+    /**
+     * Returns the record of a browser type, keyed by the installed browser binary so that browser updates invalidate it
+     */
+    static Path recordOf(WebDriverFactory.BrowserType browserType, Manager manager) throws IOException {
+        String browserKey = "unknown";
+        Optional<Path> browserPath = manager.browserPath();
+        if (browserPath.isPresent() && Files.exists(browserPath.get()))
+            browserKey = Integer.toHexString((browserPath.get().toRealPath() + "@" + Files.getLastModifiedTime(browserPath.get().toRealPath()).toMillis()).hashCode());
+        return cacheDirectory.resolve(browserType.getDriverKey() + "-" + browserKey + ".path");
+    }
+
+    private static Manager webDriverManager(WebDriverFactory.BrowserType browserType){
+        WebDriverManager manager = switch (browserType) {
+            case CHROME -> WebDriverManager.chromedriver();
+            case FIREFOX -> WebDriverManager.firefoxdriver();
+            case SAFARI -> WebDriverManager.safaridriver();
+            case OPERA -> WebDriverManager.operadriver();
+        };
+        return new Manager() {
+            @Override
+            public Optional<Path> browserPath() {
+                return manager.getBrowserPath();
+            }
+
+            @Override
+            public String setup() {
+                manager.setup();
+                return manager.getDownloadedDriverPath();
+            }
+
+            @Override
+            public void clearResolutionCache() {
+                manager.clearResolutionCache();
+            }
+        };
+    }
+
+    /**
+     * Drops every resolution of this JVM, disk records are kept
+     */
+    static void clear(){
+        resolutions.clear();
+    }
+
+    /**
+     * Returns the system property Selenium reads the driver binary path from, or null if the browser has no downloadable driver
+     */
+    private static String driverProperty(WebDriverFactory.BrowserType browserType){
+        return switch (browserType) {
+            case CHROME -> "webdriver.chrome.driver";
+            case FIREFOX -> "webdriver.gecko.driver";
+            case OPERA -> "webdriver.opera.driver";
+            case SAFARI -> null;
+        };
+    }
+
+    public static Path getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    public static void setCacheDirectory(Path cacheDirectory) {
+        DriverBinaryResolver.cacheDirectory = cacheDirectory;
+    }
+}
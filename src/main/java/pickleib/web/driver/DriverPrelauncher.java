@@ -0,0 +1,164 @@
+package pickleib.web.driver;
+
+import context.ContextStore;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import utils.Printer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+
+import static utils.StringUtilities.Color.*;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * Launches browser sessions ahead of time, concurrently, so that driver binaries start and sessions are negotiated
+ * while the test run is still bootstrapping (ex: from a BeforeAll hook or as soon as the properties are loaded).
+ *
+ * <p>
+ * Pre-launched sessions are claimed first come first served by {@link PickleibWebDriver#initialize(WebDriverFactory.BrowserType)}
+ * and by {@link WebDriverPool#acquire()}, a claim waits up to the driver-timeout for a launch that is still in progress instead of starting another one.
+ * Sessions that are never claimed are quit on shutdown, launches still in progress are awaited up to the driver-timeout.
+ * Call {@link #prelaunchFromContext()} from a BeforeAll hook to pre-launch driver-prelaunch-count sessions of the configured browser.
+ * </p>
+ *
+ * @since 1.9.9
+ */
+@SuppressWarnings("unused")
+public class DriverPrelauncher {
+
+    /**
+     * number of sessions pre-launched by {@link #prelaunchFromContext()}
+     */
+    static int prelaunchCount = Integer.parseInt(ContextStore.get("driver-prelaunch-count", "0"));
+
+    private static final Printer log = new Printer(DriverPrelauncher.class);
+    private static final Map<WebDriverFactory.BrowserType, Queue<CompletableFuture<RemoteWebDriver>>> launches = new ConcurrentHashMap<>();
+    private static final ExecutorService launcher = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "driver-launcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {Runtime.getRuntime().addShutdownHook(new Thread(DriverPrelauncher::shutdown));}
+
+    private DriverPrelauncher() {}
+
+    /**
+     * Starts launching driver-prelaunch-count sessions of the browser property, meant to be called from a BeforeAll hook
+     *
+     * <pre>{@code
+     * @BeforeAll
+     * public static void prelaunch() {
+     *     DriverPrelauncher.prelaunchFromContext();
+     * }
+     * }</pre>
+     *
+     * @return returns the launches, none if driver-prelaunch-count is zero
+     */
+    public static List<CompletableFuture<RemoteWebDriver>> prelaunchFromContext(){
+        if (prelaunchCount <= 0) return List.of();
+        return prelaunch(PickleibWebDriver.configuredBrowserType(), prelaunchCount);
+    }
+
+    /**
+     * Starts launching sessions of a given type concurrently
+     *
+     * @param browserType driver type
+     * @param count number of sessions
+     * @return returns the launches, each completing with a ready session
+     */
+    public static List<CompletableFuture<RemoteWebDriver>> prelaunch(WebDriverFactory.BrowserType browserType, int count){
+        log.info("Pre-launching " + count + " " + highlighted(PURPLE, browserType.getDriverName()) + highlighted(GRAY, " session(s)..."));
+        Queue<CompletableFuture<RemoteWebDriver>> queue = launches.computeIfAbsent(browserType, type -> new ConcurrentLinkedQueue<>());
+        List<CompletableFuture<RemoteWebDriver>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CompletableFuture<RemoteWebDriver> future = CompletableFuture.supplyAsync(() -> WebDriverFactory.getDriver(browserType), launcher);
+            queue.offer(future);
+            futures.add(future);
+        }
+        return futures;
+    }
+
+    /**
+     * Claims a pre-launched session, waiting for it if its launch is still in progress
+     *
+     * @param browserType driver type
+     * @return returns the session, or null if no session of the type was pre-launched (or all launches failed)
+     */
+    public static RemoteWebDriver claim(WebDriverFactory.BrowserType browserType){
+        Queue<CompletableFuture<RemoteWebDriver>> queue = launches.get(browserType);
+        if (queue == null) return null;
+        CompletableFuture<RemoteWebDriver> future;
+        while ((future = queue.poll()) != null) {
+            try {
+                RemoteWebDriver driver = future.get(WebDriverFactory.driverTimeout, TimeUnit.SECONDS);
+                if (driver != null) return driver;
+            }
+            catch (TimeoutException timeoutException) {
+                log.warning("A pre-launched " + browserType.getDriverName() + " session did not start within " +
+                        WebDriverFactory.driverTimeout + "s, it will be quit once launched");
+                future.thenAccept(DriverPrelauncher::quit);
+            }
+            catch (ExecutionException | CancellationException exception) {
+                log.warning("A pre-launched " + browserType.getDriverName() + " session failed: " + exception.getMessage());
+            }
+            catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                future.thenAccept(DriverPrelauncher::quit);
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of pre-launched sessions that are not claimed yet, including the ones still launching
+     */
+    public static int getPendingCount(WebDriverFactory.BrowserType browserType){
+        Queue<CompletableFuture<RemoteWebDriver>> queue = launches.get(browserType);
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * Quits every unclaimed session, waiting up to the driver-timeout for launches in progress
+     */
+    public static void shutdown(){
+        List<CompletableFuture<RemoteWebDriver>> unclaimed = new ArrayList<>();
+        for (Queue<CompletableFuture<RemoteWebDriver>> queue : launches.values()) {
+            CompletableFuture<RemoteWebDriver> future;
+            while ((future = queue.poll()) != null) unclaimed.add(future);
+        }
+        if (unclaimed.isEmpty()) return;
+        try {
+            CompletableFuture.allOf(unclaimed.toArray(CompletableFuture[]::new)).get(WebDriverFactory.driverTimeout, TimeUnit.SECONDS);
+        }
+        catch (TimeoutException timeoutException) {
+            log.warning("Pre-launched sessions did not start within " + WebDriverFactory.driverTimeout + "s, they are abandoned");
+        }
+        catch (ExecutionException ignored) {} // Failed launches have no session to quit
+        catch (InterruptedException interruptedException) {Thread.currentThread().interrupt();}
+        for (CompletableFuture<RemoteWebDriver> future : unclaimed) {
+            if (future.isDone() && !future.isCompletedExceptionally()) quit(future.join());
+            else future.cancel(true);
+        }
+    }
+
+    private static void quit(RemoteWebDriver driver){
+        if (driver == null) return;
+        try {driver.quit();}
+        catch (WebDriverException ignored) {}
+        BrowserProfile.discard(driver);
+    }
+
+    public static int getPrelaunchCount() {
+        return prelaunchCount;
+    }
+
+    public static void setPrelaunchCount(int prelaunchCount) {
+        DriverPrelauncher.prelaunchCount = prelaunchCount;
+    }
+}
@@ -0,0 +1,295 @@
+package pickleib.web.driver;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import context.ContextStore;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static utils.StringUtilities.Color.*;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * Client-side scheduler of Selenium Grid sessions.
+ *
+ * <p>
+ * Session requests are queued first come first served, so that no scenario starves while others keep getting slots.
+ * The request at the head of the queue polls the {@code /status} endpoint of every hub and is dispatched to the hub
+ * with the most free slots for its browser, slots reserved by pending requests are deducted until their sessions are created.
+ * Requests wait up to the grid-session-timeout, hubs are listed comma separated in the hub-url property.
+ * </p>
+ *
+ * <p>
+ * Hubs whose status cannot be read are skipped, if no hub status can be read the request is sent to the first hub directly.
+ * </p>
+ *
+ * @since 1.9.9
+ */
+@SuppressWarnings("unused")
+public class GridScheduler {
+
+    /**
+     * determines how long a session request waits for a free slot (milliseconds)
+     */
+    static long sessionTimeout = Long.parseLong(ContextStore.get("grid-session-timeout", "300000"));
+
+    /**
+     * determines the interval of the status polls (milliseconds)
+     */
+    static long pollInterval = Long.parseLong(ContextStore.get("grid-poll-interval", "1000"));
+
+    private static final Printer log = new Printer(GridScheduler.class);
+
+    private final List<URL> hubs;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition turn = lock.newCondition();
+    private final Deque<Thread> queue = new ArrayDeque<>();
+    private final int[] reservations;
+    private int nextHub;
+
+    private static GridScheduler shared;
+
+    public GridScheduler(List<URL> hubs) {
+        if (hubs.isEmpty()) throw new PickleibException("No Selenium Grid hub url is defined!");
+        this.hubs = List.copyOf(hubs);
+        this.reservations = new int[hubs.size()];
+    }
+
+    /**
+     * Returns the scheduler shared by every session request of the hubs in the hub-url property
+     */
+    public static synchronized GridScheduler shared(){
+        if (shared == null || !shared.hubs.toString().equals(parseHubs(WebDriverFactory.hubUrl).toString())) shared = fromContext();
+        return shared;
+    }
+
+    /**
+     * Returns a scheduler of the hubs in the hub-url property
+     */
+    public static GridScheduler fromContext(){
+        return new GridScheduler(parseHubs(WebDriverFactory.hubUrl));
+    }
+
+    /**
+     * Parses comma separated hub urls
+     */
+    static List<URL> parseHubs(String hubUrls){
+        List<URL> hubs = new ArrayList<>();
+        for (String hubUrl : hubUrls.split(",")) {
+            if (hubUrl.isBlank()) continue;
+            try {hubs.add(new URL(hubUrl.trim()));}
+            catch (MalformedURLException malformedURLException) {throw new PickleibException(malformedURLException);}
+        }
+        return hubs;
+    }
+
+    /**
+     * Returns the first of comma separated hub urls, sessions are requested from it when grid-scheduling is disabled
+     */
+    static URL firstHub(String hubUrls){
+        List<URL> hubs = parseHubs(hubUrls);
+        if (hubs.isEmpty()) throw new PickleibException("No Selenium Grid hub url is defined!");
+        if (hubs.size() > 1) log.warning("Sessions are requested from " + highlighted(BLUE, hubs.get(0).toString()) +
+                highlighted(GRAY, " only, enable grid-scheduling to spread them across " + hubs.size() + " hubs"));
+        return hubs.get(0);
+    }
+
+    /**
+     * Creates a session once a hub has a free slot for it
+     *
+     * @param capabilities session capabilities, browserName is matched against the slot stereotypes
+     * @return returns the session
+     * @throws PickleibException if no slot is free within the session timeout
+     */
+    public RemoteWebDriver newSession(Capabilities capabilities){
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sessionTimeout);
+        while (true) {
+            int hubIndex = reserve(capabilities.getBrowserName(), deadline);
+            URL hub = hubs.get(hubIndex);
+            try {return new RemoteWebDriver(hub, capabilities);}
+            catch (SessionNotCreatedException sessionException) {
+                if (System.nanoTime() >= deadline) throw sessionException;
+                log.warning("Session could not be created on " + hub + ", rescheduling: " + sessionException.getRawMessage());
+            }
+            finally {release(hubIndex);}
+        }
+    }
+
+    /**
+     * Waits for the turn of the current thread, then for a hub with a free slot
+     *
+     * @return returns the index of the reserved hub
+     */
+    int reserve(String browserName, long deadline){
+        Thread current = Thread.currentThread();
+        lock.lock();
+        try {
+            queue.addLast(current);
+            boolean logged = false;
+            while (true) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) throw new PickleibException(
+                        "No Selenium Grid slot was free for " + highlighted(BLUE, browserName) +
+                                highlighted(GRAY, " within " + sessionTimeout + "ms!")
+                );
+                if (queue.peekFirst() == current) {
+                    List<OptionalInt> slots;
+                    lock.unlock(); // Only the head polls, the status calls should not block releases
+                    try {slots = pollSlots(browserName);}
+                    finally {lock.lock();}
+                    int hubIndex = selectHub(slots);
+                    if (hubIndex >= 0) {
+                        reservations[hubIndex]++;
+                        return hubIndex;
+                    }
+                    if (!logged) {
+                        log.info("Waiting for a free " + highlighted(BLUE, browserName) + highlighted(GRAY, " slot (" + (queue.size() - 1) + " queued behind)"));
+                        logged = true;
+                    }
+                }
+                turn.awaitNanos(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(pollInterval)));
+            }
+        }
+        catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new PickleibException(interruptedException);
+        }
+        finally {
+            queue.remove(current);
+            turn.signalAll();
+            lock.unlock();
+        }
+    }
+
+    private void release(int hubIndex){
+        lock.lock();
+        try {
+            reservations[hubIndex]--;
+            turn.signalAll();
+        }
+        finally {lock.unlock();}
+    }
+
+    /**
+     * Reads the free slots of every hub
+     */
+    private List<OptionalInt> pollSlots(String browserName){
+        List<OptionalInt> slots = new ArrayList<>(hubs.size());
+        for (URL hub : hubs) slots.add(freeSlots(hub, browserName));
+        return slots;
+    }
+
+    /**
+     * Picks the hub with the most free slots after reservations, round robin among equals
+     *
+     * @return returns the hub index, or -1 if no slot is free
+     */
+    private int selectHub(List<OptionalInt> slots){
+        int selected = -1, mostFree = 0, readable = 0;
+        for (int i = 0; i < hubs.size(); i++) {
+            int hubIndex = (nextHub + i) % hubs.size();
+            OptionalInt hubSlots = slots.get(hubIndex);
+            if (hubSlots.isEmpty()) continue;
+            readable++;
+            int free = hubSlots.getAsInt() - reservations[hubIndex];
+            if (free > mostFree) {
+                mostFree = free;
+                selected = hubIndex;
+            }
+        }
+        if (readable == 0) {
+            log.warning("Selenium Grid status could not be read, the session is requested without scheduling");
+            selected = 0;
+        }
+        if (selected >= 0) nextHub = (selected + 1) % hubs.size();
+        return selected;
+    }
+
+    /**
+     * Counts the free slots of a hub that match a given browser
+     *
+     * @return returns the free slot count, or empty if the status cannot be read
+     */
+    OptionalInt freeSlots(URL hub, String browserName){
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(URI.create(hub.toString().replaceAll("/$", "") + "/status"))
+                            .timeout(Duration.ofSeconds(5))
+                            .GET()
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+            if (response.statusCode() != 200) return OptionalInt.empty();
+            return OptionalInt.of(countFreeSlots(JsonParser.parseString(response.body()).getAsJsonObject(), browserName));
+        }
+        catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            return OptionalInt.empty();
+        }
+        catch (Exception exception) {return OptionalInt.empty();}
+    }
+
+    /**
+     * Counts the free slots in a Grid 4 status, a Grid 3 status only tells readiness and counts as a single slot
+     */
+    static int countFreeSlots(JsonObject status, String browserName){
+        JsonObject value = status.getAsJsonObject("value");
+        if (value == null || !value.has("nodes")) return value != null && value.has("ready") && value.get("ready").getAsBoolean() ? 1 : 0;
+        int free = 0;
+        for (JsonElement nodeElement : value.getAsJsonArray("nodes")) {
+            JsonObject node = nodeElement.getAsJsonObject();
+            if (node.has("availability") && !"UP".equalsIgnoreCase(node.get("availability").getAsString())) continue;
+            if (!node.has("slots")) continue;
+            int busy = 0, matching = 0;
+            for (JsonElement slotElement : node.getAsJsonArray("slots")) {
+                JsonObject slot = slotElement.getAsJsonObject();
+                boolean occupied = slot.has("session") && !slot.get("session").isJsonNull();
+                if (occupied) busy++;
+                JsonObject stereotype = slot.getAsJsonObject("stereotype");
+                boolean matches = browserName == null || browserName.isEmpty() || (stereotype != null && stereotype.has("browserName") &&
+                        browserName.equalsIgnoreCase(stereotype.get("browserName").getAsString()));
+                if (matches && !occupied) matching++;
+            }
+            int maxSessions = node.has("maxSessions") ? node.get("maxSessions").getAsInt() : Integer.MAX_VALUE;
+            free += Math.max(0, Math.min(matching, maxSessions - busy));
+        }
+        return free;
+    }
+
+    public List<URL> getHubs() {
+        return hubs;
+    }
+
+    public static void setSessionTimeout(long sessionTimeout) {
+        GridScheduler.sessionTimeout = sessionTimeout;
+    }
+
+    public static void setPollInterval(long pollInterval) {
+        GridScheduler.pollInterval = pollInterval;
+    }
+
+    public static long getSessionTimeout() {
+        return sessionTimeout;
+    }
+
+    public static long getPollInterval() {
+        return pollInterval;
+    }
+}
@@ -0,0 +1,267 @@
+package pickleib.web.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.Routable;
+import org.openqa.selenium.remote.http.Route;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static utils.StringUtilities.Color.*;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * Network level control of a browser session over DevTools: URL blocking, response stubbing, throttling & extra headers.
+ *
+ * <p>
+ * Blocking, throttling & headers are sent as raw CDP commands, which do not depend on the versioned devtools domains,
+ * stubs are served by a Selenium {@link NetworkInterceptor}. Chromium based browsers (local or augmented remote sessions) are supported.
+ * Settings are scoped per scenario: configure them through {@link #of(RemoteWebDriver)} and {@link #close()} the interception after the scenario,
+ * which restores the baseline (ex: the URLs blocked by the {@link BrowserProfile#throughput} profile).
+ * Nothing closes it automatically while the session lives on: callers that keep a session across scenarios must close it themselves
+ * (ex: from an After hook or with try-with-resources). Sessions released to a {@link WebDriverPool} are reset,
+ * and terminated sessions are forgotten.
+ * </p>
+ *
+ * <pre>{@code
+ * NetworkInterception.of(driver)
+ *         .block("*ads.example.com*")
+ *         .stub("*api/users*", 200, "application/json", Path.of("fixtures/users.json"))
+ *         .throttle(100, 500_000, 250_000);
+ * }</pre>
+ *
+ * @since 1.9.9
+ */
+@SuppressWarnings("unused")
+public class NetworkInterception implements AutoCloseable {
+
+    private static final Printer log = new Printer(NetworkInterception.class);
+    private static final Map<SessionId, NetworkInterception> interceptions = new ConcurrentHashMap<>();
+
+    private final RemoteWebDriver driver;
+    private final SessionId sessionId;
+    private final List<String> baselinePatterns = new ArrayList<>();
+    private final List<String> blockedPatterns = new ArrayList<>();
+    private final List<Routable> stubs = new ArrayList<>();
+    private final Map<String, Object> headers = new LinkedHashMap<>();
+    private NetworkInterceptor interceptor;
+    private HasCdp cdp;
+    private boolean throttled;
+    private boolean networkEnabled;
+
+    private NetworkInterception(RemoteWebDriver driver, SessionId sessionId) {
+        this.driver = driver;
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Returns the interception of a driver session
+     *
+     * @param driver session driver
+     * @return returns the interception, created on the first call per session
+     * @throws PickleibException if the session has quit
+     */
+    public static NetworkInterception of(RemoteWebDriver driver){
+        SessionId sessionId = driver.getSessionId();
+        if (sessionId == null) throw new PickleibException("Network interception requires a live session, the session has quit!");
+        return interceptions.computeIfAbsent(sessionId, id -> new NetworkInterception(driver, id));
+    }
+
+    /**
+     * Restores the baseline of a session if it is intercepted
+     *
+     * @param driver session driver
+     */
+    public static void reset(RemoteWebDriver driver){
+        if (driver.getSessionId() == null) return;
+        NetworkInterception interception = interceptions.get(driver.getSessionId());
+        if (interception != null) interception.close();
+    }
+
+    /**
+     * Forgets a session without sending any command, use before quitting the session
+     *
+     * @param driver session driver
+     */
+    public static void discard(RemoteWebDriver driver){
+        if (driver.getSessionId() != null) interceptions.remove(driver.getSessionId());
+    }
+
+    /**
+     * Sets the URL patterns that stay blocked across scenarios
+     *
+     * @param patterns URL patterns, * matches any sequence of characters
+     */
+    public synchronized NetworkInterception baseline(Collection<String> patterns){
+        baselinePatterns.clear();
+        baselinePatterns.addAll(patterns);
+        applyBlockedUrls();
+        return this;
+    }
+
+    /**
+     * Blocks requests matching given URL patterns, blocked requests fail with net::ERR_BLOCKED_BY_CLIENT
+     *
+     * @param patterns URL patterns, * matches any sequence of characters
+     */
+    public synchronized NetworkInterception block(String... patterns){
+        blockedPatterns.addAll(List.of(patterns));
+        applyBlockedUrls();
+        log.info("Blocking " + highlighted(BLUE, String.valueOf(List.of(patterns))));
+        return this;
+    }
+
+    /**
+     * Serves a response body for requests matching a given URL pattern, without reaching the network
+     *
+     * @param pattern URL pattern, * matches any sequence of characters
+     * @param status response status code
+     * @param contentType response content type
+     * @param body response body
+     */
+    public synchronized NetworkInterception stub(String pattern, int status, String contentType, byte[] body){
+        Pattern url = globToRegex(pattern);
+        stubs.add(Route.matching(request -> url.matcher(request.getUri()).matches()).to(() -> request ->
+                new HttpResponse()
+                        .setStatus(status)
+                        .addHeader("Content-Type", contentType)
+                        .addHeader("Access-Control-Allow-Origin", "*")
+                        .setContent(Contents.bytes(body))
+        ));
+        applyStubs();
+        log.info("Stubbing " + highlighted(BLUE, pattern) + highlighted(GRAY, " with a " + status + " response"));
+        return this;
+    }
+
+    /**
+     * Serves a local fixture for requests matching a given URL pattern
+     *
+     * @param fixture fixture file
+     */
+    public NetworkInterception stub(String pattern, int status, String contentType, Path fixture){
+        try {return stub(pattern, status, contentType, Files.readAllBytes(fixture));}
+        catch (IOException exception) {throw new PickleibException(exception);}
+    }
+
+    public NetworkInterception stub(String pattern, int status, String contentType, String body){
+        return stub(pattern, status, contentType, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Emulates a slow network
+     *
+     * @param latency additional round trip latency (ms)
+     * @param downloadBytesPerSecond download throughput, -1 disables download throttling
+     * @param uploadBytesPerSecond upload throughput, -1 disables upload throttling
+     */
+    public synchronized NetworkInterception throttle(long latency, long downloadBytesPerSecond, long uploadBytesPerSecond){
+        enableNetwork();
+        cdp().executeCdpCommand("Network.emulateNetworkConditions", Map.of(
+                "offline", false,
+                "latency", latency,
+                "downloadThroughput", downloadBytesPerSecond,
+                "uploadThroughput", uploadBytesPerSecond
+        ));
+        throttled = true;
+        return this;
+    }
+
+    /**
+     * Adds headers to every request of the session
+     *
+     * @param extraHeaders header names & values
+     */
+    public synchronized NetworkInterception headers(Map<String, String> extraHeaders){
+        headers.putAll(extraHeaders);
+        enableNetwork();
+        cdp().executeCdpCommand("Network.setExtraHTTPHeaders", Map.of("headers", headers));
+        return this;
+    }
+
+    /**
+     * Removes the scenario settings (blocked URLs, stubs, throttling & headers), restoring the baseline
+     */
+    @Override
+    public synchronized void close(){
+        try {
+            if (interceptor != null) interceptor.close();
+            interceptor = null;
+            stubs.clear();
+            if (!blockedPatterns.isEmpty()) {
+                blockedPatterns.clear();
+                applyBlockedUrls();
+            }
+            if (throttled) cdp().executeCdpCommand("Network.emulateNetworkConditions", Map.of(
+                    "offline", false,
+                    "latency", 0,
+                    "downloadThroughput", -1,
+                    "uploadThroughput", -1
+            ));
+            throttled = false;
+            if (!headers.isEmpty()) {
+                headers.clear();
+                cdp().executeCdpCommand("Network.setExtraHTTPHeaders", Map.of("headers", Map.of()));
+            }
+        }
+        catch (WebDriverException exception) {
+            log.warning("Network interception could not be reset: " + exception.getClass().getSimpleName());
+        }
+        if (baselinePatterns.isEmpty()) interceptions.remove(sessionId);
+    }
+
+    private void applyBlockedUrls(){
+        List<String> patterns = new ArrayList<>(baselinePatterns);
+        patterns.addAll(blockedPatterns);
+        enableNetwork();
+        cdp().executeCdpCommand("Network.setBlockedURLs", Map.of("urls", patterns));
+    }
+
+    private void applyStubs(){
+        if (interceptor != null) interceptor.close();
+        interceptor = new NetworkInterceptor(augmented(), Route.combine(stubs));
+    }
+
+    private void enableNetwork(){
+        if (networkEnabled) return;
+        cdp().executeCdpCommand("Network.enable", Map.of());
+        networkEnabled = true;
+    }
+
+    private WebDriver augmented(){
+        return driver instanceof HasCdp ? driver : new Augmenter().augment(driver);
+    }
+
+    private HasCdp cdp(){
+        if (cdp != null) return cdp;
+        if (augmented() instanceof HasCdp hasCdp) return cdp = hasCdp;
+        throw new PickleibException("Network interception requires a Chromium based browser, " +
+                driver.getCapabilities().getBrowserName() + " does not support CDP!");
+    }
+
+    /**
+     * Converts a URL pattern (* wildcards, as used by Network.setBlockedURLs) to a regex
+     */
+    static Pattern globToRegex(String pattern){
+        StringBuilder regex = new StringBuilder();
+        for (String part : pattern.split("\\*", -1)) {
+            if (!regex.isEmpty()) regex.append(".*");
+            regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
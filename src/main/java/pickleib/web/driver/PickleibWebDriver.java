@@ -1,20 +1,19 @@
 package pickleib.web.driver;
 
 import context.ContextStore;
-import org.bouncycastle.util.encoders.Base64;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.devtools.DevTools;
-import org.openqa.selenium.devtools.v85.network.Network;
-import org.openqa.selenium.devtools.v85.network.model.Headers;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import pickleib.driver.DriverRegistry;
 import pickleib.utilities.PropertyLoader;
+import pickleib.utilities.page.repository.PageRepositoryIndex;
 import properties.PropertiesReader;
 import utils.Printer;
 import utils.StringUtilities;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 @SuppressWarnings("unused")
 public class PickleibWebDriver {
@@ -22,60 +21,163 @@ public class PickleibWebDriver {
 	static {PropertyLoader.load();}
 
 	/**
-	 * RemoteWebDriver instance
+	 * RemoteWebDriver instance (the most recently initialized session, use {@link #get()} in parallel executions)
 	 */
 	public static RemoteWebDriver driver;
 
 	/**
-	 * WebDriverWait instance
+	 * WebDriverWait instance (the most recently initialized session, use {@link #getWait()} in parallel executions)
 	 */
 	public static WebDriverWait wait;
 
+	/**
+	 * Driver sessions per execution scope
+	 */
+	public static final DriverRegistry<RemoteWebDriver> registry = new DriverRegistry<>();
+
 	static PropertiesReader reader = new PropertiesReader("properties-from-pom.properties");
 	static StringUtilities strUtils = new StringUtilities();
 	public static Printer log = new Printer(PickleibWebDriver.class);
 
 	/**
-	 * Initializes a specified type of driver
+	 * Initializes a specified type of driver, or acquires one from the session pool if pooling is enabled
 	 *
 	 * @param browserType driver type
 	 */
 	public static void initialize(WebDriverFactory.BrowserType browserType){
+		if (WebDriverPool.isPooling()) {
+			acquire(browserType);
+			return;
+		}
+		RemoteWebDriver prelaunched = DriverPrelauncher.claim(browserType);
+		if (prelaunched != null) {
+			log.info("Using a pre-launched " + strUtils.markup(StringUtilities.Color.PURPLE, browserType.getDriverName()) + " driver...");
+			register(prelaunched);
+			return;
+		}
 		log.info("Initializing " + strUtils.markup(StringUtilities.Color.PURPLE, browserType.getDriverName()) + " driver...");
-		driver = WebDriverFactory.getDriver(browserType);
-		wait = new WebDriverWait(driver, Duration.of(WebDriverFactory.driverTimeout, ChronoUnit.SECONDS));
+		register(WebDriverFactory.getDriver(browserType));
+	}
+
+	/**
+	 * Starts launching driver sessions concurrently, to be claimed by the upcoming initializations (see {@link DriverPrelauncher})
+	 *
+	 * @param browserType driver type
+	 * @param count number of sessions
+	 * @return returns the launches, each completing with a ready session
+	 */
+	public static List<CompletableFuture<RemoteWebDriver>> prelaunch(WebDriverFactory.BrowserType browserType, int count){
+		return DriverPrelauncher.prelaunch(browserType, count);
+	}
+
+	/**
+	 * Leases a warm driver session of a specified type from the {@link WebDriverPool}
+	 *
+	 * @param browserType driver type
+	 */
+	public static void acquire(WebDriverFactory.BrowserType browserType){
+		log.info("Acquiring " + strUtils.markup(StringUtilities.Color.PURPLE, browserType.getDriverName()) + " driver...");
+		register(WebDriverPool.of(browserType).acquire());
+	}
+
+	/**
+	 * Resets the driver session of the current execution scope and returns it to its {@link WebDriverPool}
+	 */
+	public static void release(){
+		RemoteWebDriver session = unregister();
+		if (session == null) return;
+		log.info("Releasing driver...");
+		WebDriverPool pool = WebDriverPool.owning(session);
+		if (pool != null) pool.release(session);
+		else {
+			NetworkInterception.discard(session);
+			PageRepositoryIndex.evict(session);
+			session.quit();
+			BrowserProfile.discard(session);
+		}
+	}
+
+	/**
+	 * Removes the session of the current execution scope, the static driver is only used if no session was ever registered
+	 *
+	 * @return returns the session, or null if the scope has none
+	 */
+	private static RemoteWebDriver unregister(){
+		RemoteWebDriver session = registry.unregister();
+		if (session == null && !registry.hasRegistered()) session = driver;
+		if (session == null) log.warning("No driver session is registered for the " + DriverRegistry.currentScope() + " scope!");
+		return session;
+	}
+
+	private static void register(RemoteWebDriver session){
+		WebDriverWait sessionWait = new WebDriverWait(session, Duration.of(WebDriverFactory.driverTimeout, ChronoUnit.SECONDS));
+		registry.register(session, sessionWait);
+		driver = session;
+		wait = sessionWait;
+	}
+
+	/**
+	 * Returns the driver of the current execution scope, falls back to the static driver until a session is registered
+	 *
+	 * @return returns the driver, or null if the scope has not initialized a driver yet
+	 */
+	public static RemoteWebDriver get(){
+		return registry.getDriver(driver);
+	}
+
+	/**
+	 * Returns the wait of the current execution scope, falls back to the static wait until a session is registered
+	 *
+	 * @return returns the wait, or null if the scope has not initialized a driver yet
+	 */
+	public static WebDriverWait getWait(){
+		return registry.getWait(wait);
 	}
 
 	/**
 	 * Initializes a driver according to the browser property
 	 */
 	public static void initialize(){
+		initialize(configuredBrowserType());
+	}
+
+	/**
+	 * Returns the driver type of the browser property
+	 */
+	static WebDriverFactory.BrowserType configuredBrowserType(){
 		String driverName = strUtils.firstLetterCapped(reader.getProperty("browser"));
 		String driverProperty = strUtils.firstLetterCapped(ContextStore.get("browser"));
-		if (driverName!=null) initialize(WebDriverFactory.BrowserType.fromString(driverName));
-		else if (driverProperty != null) initialize(WebDriverFactory.BrowserType.fromString(driverProperty));
-		else initialize(WebDriverFactory.BrowserType.CHROME);
+		if (driverName!=null) return WebDriverFactory.BrowserType.fromString(driverName);
+		else if (driverProperty != null) return WebDriverFactory.BrowserType.fromString(driverProperty);
+		else return WebDriverFactory.BrowserType.CHROME;
 	}
 
 	/**
-	 * @deprecated This method is no longer maintained
+	 * Initializes a driver that sends a basic authorization header with every request (Chromium based browsers only)
+	 *
+	 * @deprecated Use {@link NetworkInterception#headers(Map)} instead
 	 */
 	@Deprecated(since = "1.5.6")
-	public static void initialize(String id, String password, WebDriverFactory.BrowserType browserType){ //Only works with chrome!
+	public static void initialize(String id, String password, WebDriverFactory.BrowserType browserType){
 		initialize(browserType);
-		DevTools dev = ((ChromeDriver) driver).getDevTools();
-		dev.createSession();
-		dev.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
-		Map<String, Object> map = new HashMap<>();
-		map.put("Authorization", "Basic " + (Arrays.toString(Base64.encode((id + ":" + password).getBytes()))));
-		dev.send(Network.setExtraHTTPHeaders(new Headers(map)));
+		String credentials = Base64.getEncoder().encodeToString((id + ":" + password).getBytes(StandardCharsets.UTF_8));
+		NetworkInterception.of(get()).headers(Map.of("Authorization", "Basic " + credentials));
 	}
 
 	/**
-	 * Quits the driver session
+	 * Quits the driver session of the current execution scope, or releases it if session pooling is enabled
 	 */
 	public static void terminate(){
+		if (WebDriverPool.isPooling()) {
+			release();
+			return;
+		}
+		RemoteWebDriver session = unregister();
+		if (session == null) return;
 		log.info("Terminating driver...");
-		driver.quit();
+		NetworkInterception.discard(session);
+		PageRepositoryIndex.evict(session);
+		session.quit();
+		BrowserProfile.discard(session);
 	}
 }
\ No newline at end of file
@@ -1,7 +1,6 @@
 package pickleib.web.driver;
 
 import context.ContextStore;
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.*;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -11,13 +10,12 @@ import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.safari.SafariOptions;
 import pickleib.driver.DriverFactory;
+import pickleib.driver.ImplicitWait;
 import pickleib.enums.EmulatedDevice;
 import pickleib.exceptions.PickleibException;
 import utils.LogUtilities;
 import utils.Printer;
 import utils.StringUtilities;
-import java.io.IOException;
-import java.net.URL;
 import java.time.Duration;
 
 import static utils.StringUtilities.Color.*;
@@ -72,6 +70,11 @@ public class WebDriverFactory implements DriverFactory {
      */
     static boolean useSeleniumGrid = Boolean.parseBoolean(ContextStore.get("selenium-grid", "false"));
 
+    /**
+     * Selenium Grid sessions are queued until a hub has a free slot if true (see {@link GridScheduler})
+     */
+    static boolean gridScheduling = Boolean.parseBoolean(ContextStore.get("grid-scheduling", "true"));
+
     /**
      * enables insecure local host if true
      */
@@ -92,6 +95,11 @@ public class WebDriverFactory implements DriverFactory {
      */
     static PageLoadStrategy loadStrategy = PageLoadStrategy.fromString(ContextStore.get("load-strategy", "normal"));
 
+    /**
+     * determines the browser option preset (see {@link BrowserProfile}), resolved from the browser-profile property on first use
+     */
+    static BrowserProfile browserProfile;
+
     /**
      * determines usage of web driver manager
      */
@@ -110,7 +118,7 @@ public class WebDriverFactory implements DriverFactory {
     static String logLevel = ContextStore.get("selenium-log-level", "off");
 
     /**
-     * The URL of the Selenium Grid hub.
+     * The URL of the Selenium Grid hub, multiple hubs are comma separated (only the first is used unless grid-scheduling is enabled).
      * This value can be set in the properties file with the key "hub-url".
      * If not specified in the properties file, the default value is an empty string.
      */
@@ -146,20 +154,18 @@ public class WebDriverFactory implements DriverFactory {
 
             if (useSeleniumGrid){
                 ImmutableCapabilities capabilities = new ImmutableCapabilities("browserName", browserType.getDriverKey());
-                driver = new RemoteWebDriver(new URL(hubUrl), capabilities);
+                driver = gridScheduling ? GridScheduler.shared().newSession(capabilities) : new RemoteWebDriver(GridScheduler.firstHub(hubUrl), capabilities);
             }
             else {driver = driverSwitch(headless, useWDM, insecureLocalHost, noSandbox, disableNotifications, allowRemoteOrigin, loadStrategy, browserType, mobileMode, preferredDevice);}
 
             assert driver != null;
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(driverTimeout));
+            ImplicitWait.set(driver, Duration.ofSeconds(driverTimeout));
             if (deleteCookies) driver.manage().deleteAllCookies();
-            if (maximise) driver.manage().window().maximize();
-            else driver.manage().window().setSize(new Dimension(frameWidth, frameHeight));
+            applyWindowSize(driver);
             driver.setLogLevel(logUtils.getLevel(logLevel));
             log.important(browserType.getDriverName() + GRAY.getValue() + " was selected");
             return driver;
         }
-        catch (IOException malformedURLException) {throw new RuntimeException(malformedURLException);}
         catch (Exception gamma) {
             if(gamma.toString().contains("Could not start a new session. Possible causes are invalid address of the remote server or browser start-up failure")){
                 log.info("Please make sure the "+PURPLE+"Selenium Grid "+GRAY+"is on & verify the port that its running on at 'resources/test.properties'."+RESET);
@@ -170,6 +176,16 @@ public class WebDriverFactory implements DriverFactory {
         }
     }
 
+    /**
+     * Maximises the window of a driver, or sizes it by the frame-width & frame-height properties
+     *
+     * @param driver target driver
+     */
+    static void applyWindowSize(WebDriver driver){
+        if (maximise) driver.manage().window().maximize();
+        else driver.manage().window().setSize(new Dimension(frameWidth, frameHeight));
+    }
+
     /**
      * Selects the driver type and assigns desired capabilities
      *
@@ -207,9 +223,13 @@ public class WebDriverFactory implements DriverFactory {
 
                     if (allowRemoteOrigin) options.addArguments("--remote-allow-origins=*");
                     if (headless) options.addArguments("--headless=new");
-                    if (useWDM) WebDriverManager.chromedriver().setup();
+                    if (useWDM) DriverBinaryResolver.resolve(browserType);
                     if (mobileMode) options.setExperimentalOption("mobileEmulation", preferredDevice.emulate());
-                    return new ChromeDriver(options);
+                    BrowserProfile browserProfile = getBrowserProfile();
+                    browserProfile.apply(options);
+                    ChromeDriver chromeDriver = new ChromeDriver(options);
+                    browserProfile.onLaunch(chromeDriver, options);
+                    return chromeDriver;
                 }
                 case FIREFOX -> {
                     FirefoxOptions options = new FirefoxOptions();
@@ -223,12 +243,16 @@ public class WebDriverFactory implements DriverFactory {
                     if (allowRemoteOrigin) options.addArguments("--remote-allow-origins=*");
                     if (disableNotifications) options.addArguments("disable-notifications");
                     if (headless) options.addArguments("--headless=new");
-                    if (useWDM) WebDriverManager.firefoxdriver().setup();
-                    return new FirefoxDriver(options);
+                    if (useWDM) DriverBinaryResolver.resolve(browserType);
+                    BrowserProfile browserProfile = getBrowserProfile();
+                    browserProfile.apply(options);
+                    FirefoxDriver firefoxDriver = new FirefoxDriver(options);
+                    browserProfile.onLaunch(firefoxDriver, options);
+                    return firefoxDriver;
                 }
                 case SAFARI -> {
                     SafariOptions options = new SafariOptions();
-                    if (useWDM) WebDriverManager.safaridriver().setup();
+                    if (useWDM) DriverBinaryResolver.resolve(browserType);
                     return new SafariDriver(options);
                 }
                 default -> {
@@ -238,7 +262,8 @@ public class WebDriverFactory implements DriverFactory {
         }
         catch (SessionNotCreatedException sessionException){
             log.warning(sessionException.getLocalizedMessage());
-            if (!useWDM) return driverSwitch(headless, true, insecureLocalHost, noSandbox, disableNotifications, allowRemoteOrigin, loadStrategy, browserType, mobileMode, preferredDevice);
+            if (!useWDM || DriverBinaryResolver.invalidate(browserType))
+                return driverSwitch(headless, true, insecureLocalHost, noSandbox, disableNotifications, allowRemoteOrigin, loadStrategy, browserType, mobileMode, preferredDevice);
             else return null;
         }
     }
@@ -307,6 +332,10 @@ public class WebDriverFactory implements DriverFactory {
         WebDriverFactory.useSeleniumGrid = useSeleniumGrid;
     }
 
+    public static void setGridScheduling(boolean gridScheduling) {
+        WebDriverFactory.gridScheduling = gridScheduling;
+    }
+
     public static void setInsecureLocalHost(boolean insecureLocalHost) {
         WebDriverFactory.insecureLocalHost = insecureLocalHost;
     }
@@ -319,6 +348,10 @@ public class WebDriverFactory implements DriverFactory {
         WebDriverFactory.loadStrategy = loadStrategy;
     }
 
+    public static void setBrowserProfile(BrowserProfile browserProfile) {
+        WebDriverFactory.browserProfile = browserProfile;
+    }
+
     public static void setUseWDM(Boolean useWDM) {
         WebDriverFactory.useWDM = useWDM;
     }
@@ -373,6 +406,10 @@ public class WebDriverFactory implements DriverFactory {
         return useSeleniumGrid;
     }
 
+    public static boolean isGridScheduling() {
+        return gridScheduling;
+    }
+
     public static boolean isInsecureLocalHost() {
         return insecureLocalHost;
     }
@@ -385,6 +422,11 @@ public class WebDriverFactory implements DriverFactory {
         return loadStrategy;
     }
 
+    public static BrowserProfile getBrowserProfile() {
+        if (browserProfile == null) browserProfile = BrowserProfile.fromContext();
+        return browserProfile;
+    }
+
     public static Boolean getUseWDM() {
         return useWDM;
     }
@@ -0,0 +1,276 @@
+package pickleib.web.driver;
+
+import context.ContextStore;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import pickleib.driver.ImplicitWait;
+import pickleib.exceptions.PickleibException;
+import pickleib.utilities.page.repository.PageRepositoryIndex;
+import utils.Printer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+import static utils.StringUtilities.Color.*;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * A bounded pool of warm browser sessions.
+ *
+ * <p>
+ * Sessions are launched through {@link WebDriverFactory#getDriver(WebDriverFactory.BrowserType)} with the configured options,
+ * and instead of being quit on release, they are reset (cookies, local & session storage, extra windows, network interception,
+ * implicit wait & window size) and navigated to {@code about:blank} for the next scenario. A session is recycled once it fails a health check or reaches the max reuse count.
+ * </p>
+ *
+ * <p>
+ * Local & session storage can only be cleared for the origin that is loaded at the time of the release.
+ * </p>
+ *
+ * @since 1.9.9
+ */
+@SuppressWarnings("unused")
+public class WebDriverPool {
+
+    /**
+     * session pooling is used by PickleibWebDriver if true
+     */
+    static boolean pooling = Boolean.parseBoolean(ContextStore.get("driver-pooling", "false"));
+
+    /**
+     * maximum number of sessions per browser type
+     */
+    static int poolSize = Integer.parseInt(ContextStore.get("driver-pool-size", "1"));
+
+    /**
+     * number of times a session is reused before it is recycled
+     */
+    static int maxReuse = Integer.parseInt(ContextStore.get("driver-pool-max-reuse", "25"));
+
+    /**
+     * determines how long an acquisition waits for a free session (milliseconds)
+     */
+    static long acquireTimeout = Long.parseLong(ContextStore.get("driver-pool-timeout", "300000"));
+
+    /**
+     * launches the sessions of the pools
+     */
+    static Function<WebDriverFactory.BrowserType, RemoteWebDriver> launcher = WebDriverFactory::getDriver;
+
+    private static final Map<WebDriverFactory.BrowserType, WebDriverPool> pools = new ConcurrentHashMap<>();
+    private static final Printer log = new Printer(WebDriverPool.class);
+
+    static {Runtime.getRuntime().addShutdownHook(new Thread(WebDriverPool::shutdownAll));}
+
+    private final WebDriverFactory.BrowserType browserType;
+    private final int capacity;
+    private final Semaphore permits;
+    private final BlockingDeque<PooledSession> idleSessions = new LinkedBlockingDeque<>();
+    private final Map<RemoteWebDriver, PooledSession> leasedSessions = new ConcurrentHashMap<>();
+
+    WebDriverPool(WebDriverFactory.BrowserType browserType, int capacity) {
+        this.browserType = browserType;
+        this.capacity = capacity;
+        this.permits = new Semaphore(capacity, true);
+    }
+
+    /**
+     * Returns the session pool of a given browser type
+     *
+     * @param browserType driver type
+     * @return returns the pool
+     */
+    public static WebDriverPool of(WebDriverFactory.BrowserType browserType){
+        return pools.computeIfAbsent(browserType, type -> new WebDriverPool(type, poolSize));
+    }
+
+    /**
+     * Returns the pool that leased a given driver
+     *
+     * @param driver leased driver
+     * @return returns the pool, or null if the driver is not leased from a pool
+     */
+    public static WebDriverPool owning(RemoteWebDriver driver){
+        for (WebDriverPool pool : pools.values())
+            if (pool.leasedSessions.containsKey(driver)) return pool;
+        return null;
+    }
+
+    /**
+     * Launches sessions until the pool holds {@code count} idle sessions (bounded by the pool capacity)
+     *
+     * @param count desired number of warm sessions
+     */
+    public void warmUp(int count){
+        int target = Math.min(count, capacity);
+        while (idleSessions.size() + leasedSessions.size() < target && permits.tryAcquire()) {
+            try {idleSessions.offer(new PooledSession(launcher.apply(browserType)));}
+            finally {permits.release();}
+        }
+    }
+
+    /**
+     * Leases a healthy session, launching a new one if no warm session is available
+     *
+     * @return returns the leased driver
+     * @throws PickleibException if no session becomes available within the acquire timeout
+     */
+    public RemoteWebDriver acquire(){
+        try {
+            if (!permits.tryAcquire(acquireTimeout, TimeUnit.MILLISECONDS))
+                throw new PickleibException("No " + browserType.getDriverName() + " session became available in " + acquireTimeout + "ms!");
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new PickleibException(exception);
+        }
+        try {
+            PooledSession session;
+            while ((session = idleSessions.pollFirst()) != null) {
+                if (session.isHealthy()) break;
+                log.warning("Recycling unhealthy " + browserType.getDriverName() + " session");
+                session.quit();
+            }
+            if (session == null) {
+                RemoteWebDriver prelaunched = DriverPrelauncher.claim(browserType);
+                session = new PooledSession(prelaunched != null ? prelaunched : launcher.apply(browserType));
+            }
+            else log.info("Reusing a warm " + highlighted(PURPLE, browserType.getDriverName()) + highlighted(GRAY, " session"));
+            session.leases++;
+            leasedSessions.put(session.driver, session);
+            return session.driver;
+        }
+        catch (RuntimeException exception) {
+            permits.release();
+            throw exception;
+        }
+    }
+
+    /**
+     * Resets a leased session and returns it to the pool, the session is quit if it cannot be reused
+     *
+     * @param driver leased driver
+     */
+    public void release(RemoteWebDriver driver){
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) throw new PickleibException("The driver was not leased from the " + browserType.getDriverName() + " pool!");
+        try {
+            if (session.leases >= maxReuse || !session.reset()) session.quit();
+            else idleSessions.offerFirst(session);
+        }
+        finally {permits.release();}
+    }
+
+    /**
+     * Quits all idle sessions of this pool
+     */
+    public void shutdown(){
+        PooledSession session;
+        while ((session = idleSessions.pollFirst()) != null) session.quit();
+    }
+
+    /**
+     * Quits every pooled session, including the leased ones
+     */
+    public static void shutdownAll(){
+        for (WebDriverPool pool : pools.values()) {
+            pool.shutdown();
+            List<PooledSession> leased = new ArrayList<>(pool.leasedSessions.values());
+            pool.leasedSessions.clear();
+            leased.forEach(PooledSession::quit);
+        }
+    }
+
+    public int getIdleCount() {
+        return idleSessions.size();
+    }
+
+    public int getLeasedCount() {
+        return leasedSessions.size();
+    }
+
+    public static boolean isPooling() {
+        return pooling;
+    }
+
+    public static void setPooling(boolean pooling) {
+        WebDriverPool.pooling = pooling;
+    }
+
+    public static void setPoolSize(int poolSize) {
+        WebDriverPool.poolSize = poolSize;
+    }
+
+    public static void setMaxReuse(int maxReuse) {
+        WebDriverPool.maxReuse = maxReuse;
+    }
+
+    public static void setAcquireTimeout(long acquireTimeout) {
+        WebDriverPool.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * A pooled driver session along with its lease count
+     */
+    static class PooledSession {
+        final RemoteWebDriver driver;
+        int leases;
+
+        PooledSession(RemoteWebDriver driver) {
+            this.driver = driver;
+        }
+
+        boolean isHealthy(){
+            try {
+                return driver.getSessionId() != null && driver.getWindowHandle() != null;
+            }
+            catch (WebDriverException exception) {return false;}
+        }
+
+        /**
+         * Closes extra windows, clears storage & cookies, restores the implicit wait & window size and navigates to about:blank
+         *
+         * @return returns true if the session was reset successfully
+         */
+        boolean reset(){
+            try {
+                NetworkInterception.reset(driver);
+                List<String> handles = new ArrayList<>(driver.getWindowHandles());
+                String primaryHandle = handles.get(0);
+                for (String handle : handles.subList(1, handles.size())) {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                }
+                driver.switchTo().window(primaryHandle);
+                ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}"
+                );
+                if (driver instanceof ChromiumDriver chromiumDriver)
+                    chromiumDriver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+                else driver.manage().deleteAllCookies();
+                ImplicitWait.restore(driver, Duration.ofSeconds(WebDriverFactory.driverTimeout));
+                WebDriverFactory.applyWindowSize(driver);
+                driver.get("about:blank");
+                return true;
+            }
+            catch (WebDriverException exception) {
+                log.warning("Could not reset the session: " + exception.getClass().getSimpleName());
+                return false;
+            }
+        }
+
+        void quit(){
+            NetworkInterception.discard(driver);
+            PageRepositoryIndex.evict(driver);
+            try {driver.quit();}
+            catch (WebDriverException ignored) {}
+            BrowserProfile.discard(driver);
+        }
+    }
+}
@@ -41,9 +41,9 @@ public class WebInteractions extends WebUtilities implements Interactions {
     }
 
     public WebInteractions(){
-        super(PickleibWebDriver.driver);
-        this.driver = PickleibWebDriver.driver;
-        this.wait = PickleibWebDriver.wait;
+        super(PickleibWebDriver.get());
+        this.driver = PickleibWebDriver.get();
+        this.wait = PickleibWebDriver.getWait();
         interact = new ElementInteractions(
                 driver
         );
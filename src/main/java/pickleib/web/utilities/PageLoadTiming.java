@@ -0,0 +1,76 @@
+package pickleib.web.utilities;
+
+import context.ContextStore;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.Map;
+
+/**
+ * Navigation timings of the current page, read from the Navigation Timing API in a single script call
+ *
+ * @param url page url
+ * @param timeToFirstByte time from the navigation start to the first response byte (ms)
+ * @param domContentLoaded time from the navigation start to the end of DOMContentLoaded (ms)
+ * @param load time from the navigation start to the end of the load event (ms), 0 if the page is still loading
+ * @param resources number of resources loaded so far
+ *
+ * @since 1.9.9
+ */
+public record PageLoadTiming(String url, double timeToFirstByte, double domContentLoaded, double load, long resources) {
+
+    /**
+     * page load timings are logged after each navigation if true
+     */
+    static boolean logTimings = Boolean.parseBoolean(ContextStore.get("page-load-timing", "false"));
+
+    private static final String TIMING_SCRIPT = """
+            var navigation = performance.getEntriesByType('navigation')[0];
+            if (!navigation) return null;
+            return {
+                url: navigation.name,
+                ttfb: navigation.responseStart,
+                domContentLoaded: navigation.domContentLoadedEventEnd,
+                load: navigation.loadEventEnd,
+                resources: performance.getEntriesByType('resource').length
+            };
+            """;
+
+    /**
+     * Reads the timings of the current page
+     *
+     * @param executor session driver
+     * @return returns the timings, or null if the browser does not support the Navigation Timing API
+     */
+    @SuppressWarnings("unchecked")
+    public static PageLoadTiming of(JavascriptExecutor executor){
+        try {
+            Map<String, Object> timing = (Map<String, Object>) executor.executeScript(TIMING_SCRIPT);
+            if (timing == null) return null;
+            return new PageLoadTiming(
+                    String.valueOf(timing.get("url")),
+                    ((Number) timing.get("ttfb")).doubleValue(),
+                    ((Number) timing.get("domContentLoaded")).doubleValue(),
+                    ((Number) timing.get("load")).doubleValue(),
+                    ((Number) timing.get("resources")).longValue()
+            );
+        }
+        catch (WebDriverException | ClassCastException | NullPointerException exception) {return null;}
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "ttfb: %.0fms, DOMContentLoaded: %.0fms, load: %s, resources: %d",
+                timeToFirstByte, domContentLoaded, load > 0 ? String.format("%.0fms", load) : "pending", resources
+        );
+    }
+
+    public static boolean isLogTimings() {
+        return logTimings;
+    }
+
+    public static void setLogTimings(boolean logTimings) {
+        PageLoadTiming.logTimings = logTimings;
+    }
+}
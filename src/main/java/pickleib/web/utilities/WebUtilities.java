@@ -34,7 +34,7 @@ public abstract class WebUtilities extends Utilities {
      *
      */
     protected WebUtilities(){
-        super(PickleibWebDriver.driver);
+        super(PickleibWebDriver.get());
         PageFactory.initElements(driver, this);
     }
 
@@ -52,7 +52,7 @@ public abstract class WebUtilities extends Utilities {
      *
      */
     protected <CustomFieldDecorator extends DefaultFieldDecorator> WebUtilities(CustomFieldDecorator fieldDecorator){
-        super(PickleibWebDriver.driver);
+        super(PickleibWebDriver.get());
         PageFactory.initElements(fieldDecorator, this);
     }
 
@@ -134,6 +134,10 @@ public abstract class WebUtilities extends Utilities {
             driver.quit();
             throw new PickleibException("Unable to navigate to the \"" + StringUtilities.highlighted(YELLOW, url) + "\"");
         }
+        if (PageLoadTiming.isLogTimings()) {
+            PageLoadTiming timing = PageLoadTiming.of(driver);
+            if (timing != null) log.info("Page loaded (" + highlighted(BLUE, timing.toString()) + highlighted(GRAY, ")"));
+        }
         return url;
     }
 
@@ -417,32 +421,11 @@ public abstract class WebUtilities extends Utilities {
      * @return returns the selected element
      */
     protected WebElement hoverOver(WebElement element){
-        long initialTime = System.currentTimeMillis();
         Actions actions = new Actions(driver);
-        String caughtException = null;
-        boolean timeout;
-        int counter = 0;
-        do {
-            try {
-                centerElement(element);
-                actions.moveToElement(element).build().perform();
-                break;
-            }
-            catch (WebDriverException webDriverException){
-                if (counter == 0) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                    counter++;
-                }
-                else if (!webDriverException.getClass().getName().equals(caughtException)){
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                    counter++;
-                }
-            }
-            timeout = System.currentTimeMillis() - initialTime > elementTimeout;
-        }
-        while (timeout);
-        return element;
+        return iterativeConditionalInvocation(statistics -> {
+            centerElement(element);
+            actions.moveToElement(element).build().perform();
+            return element;
+        }).orElse(element);
     }
 }
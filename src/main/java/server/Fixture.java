@@ -0,0 +1,30 @@
+package server;
+
+import com.google.gson.JsonElement;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A recorded response, served by {@link MockApiServer} for the requests matching its method & path
+ *
+ * @param method request method (ex: GET)
+ * @param path request path regex, matched against the path & query (ex: /Account/v1/User/[^/]+)
+ * @param status response status code
+ * @param headers response headers
+ * @param body response body, json bodies are kept as json for readable fixture files
+ */
+public record Fixture(String method, String path, int status, Map<String, String> headers, JsonElement body) {
+
+    public boolean matches(String method, String path) {
+        return this.method.equalsIgnoreCase(method) && Pattern.matches(this.path, path);
+    }
+
+    /**
+     * Returns the body as text
+     */
+    public String bodyText() {
+        if (body == null || body.isJsonNull()) return "";
+        return body.isJsonPrimitive() ? body.getAsString() : body.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package server;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static function.ConverterFactoryFunction.GSON;
+
+/**
+ * Records the responses of a real backend as fixtures, to be replayed later by {@link MockApiServer}.
+ * Add it to a client with {@link builder.OkhttpClientBuilder#addInterceptor}, run the tests once and {@link #save(Path)}.
+ * Paths are recorded as regexes with escaped metacharacters, so that they can be generalized by hand (ex: /User/[^/]+).
+ */
+public class FixtureRecorder implements Interceptor {
+
+    private final List<Fixture> fixtures = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+        String body = response.peekBody(Long.MAX_VALUE).string();
+        Map<String, String> headers = new LinkedHashMap<>();
+        String contentType = response.header("Content-Type");
+        if (contentType != null) headers.put("Content-Type", contentType);
+        String path = request.url().encodedPath() + (request.url().encodedQuery() != null ? "?" + request.url().encodedQuery() : "");
+        fixtures.add(new Fixture(request.method(), path.replaceAll("[\\\\.\\[\\]{}()*+?^$|]", "\\\\$0"), response.code(), headers, bodyOf(body)));
+        return response;
+    }
+
+    private static JsonElement bodyOf(String body) {
+        try {
+            JsonElement json = JsonParser.parseString(body);
+            if (json.isJsonObject() || json.isJsonArray()) return json;
+        }
+        catch (JsonSyntaxException ignored) {}
+        return new JsonPrimitive(body);
+    }
+
+    public List<Fixture> getFixtures() {
+        synchronized (fixtures) {return List.copyOf(fixtures);}
+    }
+
+    /**
+     * Writes the recorded fixtures as json, to be loaded with {@link #load(Path)}
+     */
+    public void save(Path file) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        Files.writeString(file, GSON.newBuilder().setPrettyPrinting().disableHtmlEscaping().create().toJson(getFixtures()));
+    }
+
+    /**
+     * Loads fixtures from a json file
+     */
+    public static List<Fixture> load(Path file) throws IOException {
+        return GSON.fromJson(Files.readString(file), new TypeToken<List<Fixture>>(){}.getType());
+    }
+}
@@ -0,0 +1,146 @@
+package server;
+
+import com.google.gson.JsonPrimitive;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local stand-in for a backend, serving fixtures from an OkHttp {@link MockWebServer}.
+ *
+ * <p>
+ * Requests are answered by the first matching fixture, unmatched requests get a 404.
+ * Latency & jitter can be injected to simulate a remote backend under load.
+ * Pass {@link #baseUrl()} to {@link builder.RetrofitBuilder#setBaseUrl(String)} to run the API clients against it.
+ * The mockwebserver dependency is optional, consumers using this class should declare it (test scope is enough).
+ * </p>
+ */
+@SuppressWarnings("unused")
+public class MockApiServer implements AutoCloseable {
+
+    private final MockWebServer server = new MockWebServer();
+    private final List<Fixture> fixtures = new CopyOnWriteArrayList<>();
+    private volatile long latency;
+    private volatile long jitter;
+    private volatile long bytesPerSecond;
+
+    public MockApiServer() {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return respond(request);
+            }
+        });
+    }
+
+    /**
+     * Starts a server with the fixtures of a file, recorded by {@link FixtureRecorder}
+     */
+    public static MockApiServer fromFixtures(Path file) {
+        try {return new MockApiServer().fixtures(FixtureRecorder.load(file)).start();}
+        catch (IOException exception) {throw new UncheckedIOException(exception);}
+    }
+
+    /**
+     * Starts the server on a free local port
+     */
+    public MockApiServer start() {
+        try {server.start();}
+        catch (IOException exception) {throw new UncheckedIOException(exception);}
+        return this;
+    }
+
+    /**
+     * Returns the base url of the server, ending with a slash
+     */
+    public String baseUrl() {
+        return server.url("/").toString();
+    }
+
+    public MockApiServer fixture(Fixture fixture) {
+        fixtures.add(fixture);
+        return this;
+    }
+
+    public MockApiServer fixtures(List<Fixture> fixtures) {
+        this.fixtures.addAll(fixtures);
+        return this;
+    }
+
+    /**
+     * Serves a json body for requests matching the method & path regex
+     */
+    public MockApiServer stub(String method, String path, int status, String body) {
+        return fixture(new Fixture(method, path, status, Map.of("Content-Type", "application/json"), new JsonPrimitive(body)));
+    }
+
+    /**
+     * Delays each response by the latency plus a uniformly distributed jitter
+     *
+     * @param latency minimum delay of a response
+     * @param jitter maximum additional random delay
+     */
+    public MockApiServer latency(Duration latency, Duration jitter) {
+        this.latency = latency.toMillis();
+        this.jitter = jitter.toMillis();
+        return this;
+    }
+
+    /**
+     * Throttles response bodies to simulate a limited bandwidth, zero disables throttling
+     */
+    public MockApiServer bandwidth(long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+        return this;
+    }
+
+    public int getRequestCount() {
+        return server.getRequestCount();
+    }
+
+    /**
+     * Returns the next recorded request, waiting up to the timeout
+     *
+     * @return returns the request, or null if none was received in time
+     */
+    public RecordedRequest takeRequest(Duration timeout) {
+        try {return server.takeRequest(timeout.toMillis(), TimeUnit.MILLISECONDS);}
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private MockResponse respond(RecordedRequest request) {
+        MockResponse response = fixtures.stream()
+                .filter(fixture -> fixture.matches(request.getMethod(), request.getPath()))
+                .findFirst()
+                .map(fixture -> {
+                    MockResponse fixtureResponse = new MockResponse().setResponseCode(fixture.status()).setBody(fixture.bodyText());
+                    if (fixture.headers() != null) fixture.headers().forEach(fixtureResponse::setHeader);
+                    return fixtureResponse;
+                })
+                .orElseGet(() -> new MockResponse().setResponseCode(404).setBody("No fixture matches " + request.getMethod() + " " + request.getPath()));
+        long delay = latency + (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0);
+        if (delay > 0) response.setHeadersDelay(delay, TimeUnit.MILLISECONDS);
+        if (bytesPerSecond > 0) response.throttleBody(Math.max(1, bytesPerSecond / 10), 100, TimeUnit.MILLISECONDS);
+        return response;
+    }
+
+    @Override
+    public void close() {
+        try {server.shutdown();}
+        catch (IOException exception) {throw new UncheckedIOException(exception);}
+    }
+}
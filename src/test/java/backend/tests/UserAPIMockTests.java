@@ -0,0 +1,71 @@
+package backend.tests;
+
+import backend.UserAPIClient;
+import backend.models.request.User;
+import backend.models.response.UserCreated;
+import builder.OkhttpClientBuilder;
+import builder.RetrofitBuilder;
+import factory.RetrofitClientFactory;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import server.MockApiServer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public class UserAPIMockTests {
+
+    private static MockApiServer server;
+    private static UserAPIClient userAPIClient;
+
+    @BeforeClass
+    public static void setUp() {
+        server = MockApiServer.fromFixtures(Path.of("src/test/resources/fixtures/users.json"));
+        Retrofit retrofit = RetrofitBuilder.builder()
+                .setBaseUrl(server.baseUrl())
+                .setCallAdapterFactory("gson")
+                .client(OkhttpClientBuilder.builder().build())
+                .build();
+        userAPIClient = RetrofitClientFactory.createApiClient(retrofit, UserAPIClient.class);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testGetUserById() {
+        Response<User> response = RetrofitClientFactory.executeCall(userAPIClient.getUsersById("42"));
+        Assert.assertEquals("Status Code", 200, response.code());
+        Assert.assertEquals("User Name", "pickleib", response.body().getName());
+        RecordedRequest request = takeRequest("GET");
+        Assert.assertEquals("/Account/v1/User/42", request.getPath());
+    }
+
+    @Test
+    public void testCreateUser() {
+        Response<UserCreated> response = RetrofitClientFactory.executeCall(
+                userAPIClient.createUser(User.builder().name("pickleib").password("Secret1!").build())
+        );
+        Assert.assertEquals("Status Code", 201, response.code());
+        Assert.assertEquals("User Name", "pickleib", response.body().getName());
+        Assert.assertEquals("Book Count", 0, response.body().getBooks().length);
+        RecordedRequest request = takeRequest("POST");
+        String body = request.getBody().readUtf8();
+        Assert.assertTrue("Request body " + body + " lacks the user name", body.contains("\"name\":\"pickleib\""));
+    }
+
+    private static RecordedRequest takeRequest(String method) {
+        RecordedRequest request;
+        do request = server.takeRequest(Duration.ofSeconds(5));
+        while (request != null && !request.getMethod().equals(method));
+        Assert.assertNotNull("No " + method + " request reached the server", request);
+        return request;
+    }
+}
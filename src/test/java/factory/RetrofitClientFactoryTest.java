@@ -0,0 +1,213 @@
+package factory;
+
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.http.GET;
+import retrofit2.http.Path;
+import retrofit2.http.Streaming;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+public class RetrofitClientFactoryTest {
+
+    interface ItemService {
+        @GET("items/{id}")
+        Call<ResponseBody> item(@Path("id") int id);
+
+        @Streaming
+        @GET("items")
+        Call<ResponseBody> items();
+    }
+
+    public static class Item {
+        public int id;
+        public String name;
+    }
+
+    private MockWebServer server;
+    private MockResponse itemsResponse;
+    private ItemService service;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger endedCalls = new AtomicInteger();
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/items")) return itemsResponse;
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(50);
+                    String id = request.getPath().substring("/items/".length());
+                    return id.equals("0") ? new MockResponse().setResponseCode(500) : new MockResponse().setBody("item-" + id);
+                }
+                finally {inFlight.decrementAndGet();}
+            }
+        });
+        server.start();
+        service = RetrofitClientFactory.createApiClient(
+                new Retrofit.Builder().baseUrl(server.url("/")).client(new OkHttpClient.Builder()
+                        .eventListener(new EventListener() {
+                            @Override
+                            public void callEnd(okhttp3.Call call) {
+                                endedCalls.incrementAndGet();
+                            }
+                        })
+                        .build()
+                ).build(),
+                ItemService.class
+        );
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        RetrofitClientFactory.setPlatformParallelism(64);
+        RetrofitClientFactory.virtualThreads = true;
+        server.shutdown();
+    }
+
+    @Test
+    public void executeAllKeepsOrderTest() throws IOException {
+        List<Response<ResponseBody>> responses = RetrofitClientFactory.executeAll(calls(1, 6), 3);
+        Assert.assertEquals(6, responses.size());
+        for (int i = 0; i < responses.size(); i++)
+            Assert.assertEquals("item-" + (i + 1), responses.get(i).body().string());
+        Assert.assertTrue("Concurrency exceeded: " + maxInFlight.get(), maxInFlight.get() <= 3);
+        Assert.assertTrue("Calls did not run concurrently", maxInFlight.get() > 1);
+    }
+
+    @Test
+    public void executeAllSingleConcurrencyTest() {
+        RetrofitClientFactory.executeAll(calls(1, 4), 1);
+        Assert.assertEquals(1, maxInFlight.get());
+    }
+
+    @Test
+    public void executeAllInvalidConcurrencyTest() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> RetrofitClientFactory.executeAll(calls(1, 1), 0));
+    }
+
+    @Test(timeout = 10_000)
+    public void nestedFanOutOnPlatformPoolTest() {
+        RetrofitClientFactory.virtualThreads = false;
+        RetrofitClientFactory.setPlatformParallelism(2);
+        Assert.assertEquals(List.of(List.of("item-1", "item-2", "item-3"), List.of("item-1", "item-2", "item-3"),
+                        List.of("item-1", "item-2", "item-3"), List.of("item-1", "item-2", "item-3")),
+                nestedFanOut(4));
+    }
+
+    @Test(timeout = 10_000)
+    public void nestedFanOutOnVirtualThreadsTest() {
+        Assume.assumeTrue("Virtual threads are not available", RetrofitClientFactory.isVirtualThreadMode());
+        Assert.assertEquals(4, nestedFanOut(4).size());
+        Assert.assertTrue("Calls did not run concurrently", maxInFlight.get() > 1);
+    }
+
+    @Test
+    public void fanOutFailureTest() {
+        RetrofitClientFactory.virtualThreads = false;
+        List<Callable<String>> tasks = List.of(() -> "done", () -> {throw new IllegalStateException("failed");});
+        IllegalStateException exception = Assert.assertThrows(IllegalStateException.class, () -> RetrofitClientFactory.fanOut(tasks));
+        Assert.assertEquals("failed", exception.getMessage());
+    }
+
+    @Test
+    public void fanOutCallsTest() throws IOException {
+        RetrofitClientFactory.virtualThreads = false;
+        List<Response<ResponseBody>> responses = RetrofitClientFactory.fanOutCalls(calls(0, 3));
+        Assert.assertEquals(500, responses.get(0).code());
+        Assert.assertEquals("item-2", responses.get(2).body().string());
+    }
+
+    @Test
+    public void streamCallReadsAllItemsTest() {
+        itemsResponse = new MockResponse().setChunkedBody(itemArray(100), 64);
+        try (Stream<Item> items = RetrofitClientFactory.streamCall(service.items(), Item.class)) {
+            List<Item> list = items.toList();
+            Assert.assertEquals(100, list.size());
+            Assert.assertEquals("item-99", list.get(99).name);
+        }
+    }
+
+    @Test
+    public void streamCallEarlyCloseReleasesBodyTest() {
+        earlyClose("gson");
+    }
+
+    @Test
+    public void jacksonStreamCallEarlyCloseReleasesBodyTest() {
+        earlyClose("jackson");
+    }
+
+    @Test
+    public void streamCallFailureTest() {
+        itemsResponse = new MockResponse().setResponseCode(503).setBody("unavailable");
+        Assert.assertThrows(RuntimeException.class, () -> RetrofitClientFactory.streamCall(service.items(), Item.class));
+        Assert.assertEquals("The error body was not closed", 1, endedCalls.get());
+    }
+
+    /**
+     * Consumes the first items of a large chunked array and closes the stream before the body is exhausted
+     */
+    private void earlyClose(String converter) {
+        itemsResponse = new MockResponse().setChunkedBody(itemArray(10_000), 128);
+        Stream<Item> items = RetrofitClientFactory.streamCall(service.items(), Item.class, converter);
+        List<Item> first = items.limit(3).toList();
+        Assert.assertEquals(List.of(0, 1, 2), first.stream().map(item -> item.id).toList());
+        Assert.assertEquals("The body was released before the stream was closed", 0, endedCalls.get());
+        items.close();
+        Assert.assertEquals("The body was not closed with the stream", 1, endedCalls.get());
+    }
+
+    private static String itemArray(int count) {
+        StringBuilder json = new StringBuilder("[");
+        for (int id = 0; id < count; id++) {
+            if (id > 0) json.append(',');
+            json.append("{\"id\":").append(id).append(",\"name\":\"item-").append(id).append("\"}");
+        }
+        return json.append(']').toString();
+    }
+
+    /**
+     * Fans out tasks that fan out calls in turn
+     */
+    private List<List<String>> nestedFanOut(int count) {
+        List<Callable<List<String>>> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++)
+            tasks.add(() -> {
+                List<String> items = new ArrayList<>();
+                for (Response<ResponseBody> response : RetrofitClientFactory.fanOutCalls(calls(1, 3)))
+                    items.add(response.body().string());
+                return items;
+            });
+        return RetrofitClientFactory.fanOut(tasks);
+    }
+
+    private List<Call<ResponseBody>> calls(int from, int count) {
+        List<Call<ResponseBody>> calls = new ArrayList<>();
+        for (int id = from; id < from + count; id++) calls.add(service.item(id));
+        return calls;
+    }
+}
@@ -0,0 +1,134 @@
+package interceptor;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+public class CircuitBreakerInterceptorTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofMillis(200);
+
+    private MockWebServer server;
+    private CircuitBreakerInterceptor circuitBreaker;
+    private OkHttpClient client;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        circuitBreaker = new CircuitBreakerInterceptor(2, OPEN_DURATION);
+        client = new OkHttpClient.Builder().addInterceptor(circuitBreaker).build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void opensAfterConsecutiveFailuresTest() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        call();
+        Assert.assertEquals("A single failure opened the circuit", CircuitBreakerInterceptor.State.closed, circuitBreaker.getState());
+        server.enqueue(new MockResponse().setResponseCode(503));
+        call();
+        Assert.assertEquals(CircuitBreakerInterceptor.State.open, circuitBreaker.getState());
+        assertRejected();
+        Assert.assertEquals("A request reached the server while the circuit was open", 2, server.getRequestCount());
+    }
+
+    @Test
+    public void successResetsFailureCountTest() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(200));
+        server.enqueue(new MockResponse().setResponseCode(500));
+        for (int i = 0; i < 3; i++) call();
+        Assert.assertEquals(CircuitBreakerInterceptor.State.closed, circuitBreaker.getState());
+    }
+
+    @Test
+    public void successfulTrialClosesTest() throws Exception {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+        server.enqueue(new MockResponse().setResponseCode(200));
+        Assert.assertEquals(200, call());
+        Assert.assertEquals(CircuitBreakerInterceptor.State.closed, circuitBreaker.getState());
+    }
+
+    @Test
+    public void failedTrialReopensTest() throws Exception {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+        server.enqueue(new MockResponse().setResponseCode(500));
+        call();
+        Assert.assertEquals(CircuitBreakerInterceptor.State.open, circuitBreaker.getState());
+        assertRejected();
+    }
+
+    @Test
+    public void trialRuntimeExceptionReopensTest() throws Exception {
+        OkHttpClient failingClient = client.newBuilder()
+                .addInterceptor(chain -> {throw new IllegalStateException("converter failure");})
+                .build();
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+        try (Response ignored = failingClient.newCall(new Request.Builder().url(server.url("/")).build()).execute()) {
+            Assert.fail("The trial request did not fail");
+        }
+        catch (IllegalStateException expected) {}
+        Assert.assertEquals("The failed trial left the circuit half open", CircuitBreakerInterceptor.State.open, circuitBreaker.getState());
+
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+        server.enqueue(new MockResponse().setResponseCode(200));
+        Assert.assertEquals(200, call());
+        Assert.assertEquals(CircuitBreakerInterceptor.State.closed, circuitBreaker.getState());
+    }
+
+    @Test
+    public void halfOpenRejectsConcurrentRequestsTest() throws Exception {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+        server.enqueue(new MockResponse().setResponseCode(200).setHeadersDelay(300, java.util.concurrent.TimeUnit.MILLISECONDS));
+        Thread trial = new Thread(() -> {
+            try {call();}
+            catch (IOException ignored) {}
+        });
+        trial.start();
+        Thread.sleep(100);
+        Assert.assertEquals(CircuitBreakerInterceptor.State.halfOpen, circuitBreaker.getState());
+        assertRejected();
+        trial.join();
+        Assert.assertEquals(CircuitBreakerInterceptor.State.closed, circuitBreaker.getState());
+    }
+
+    private void open() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(500));
+        call();
+        call();
+        Assert.assertEquals(CircuitBreakerInterceptor.State.open, circuitBreaker.getState());
+    }
+
+    private int call() throws IOException {
+        try (Response response = client.newCall(new Request.Builder().url(server.url("/")).build()).execute()) {
+            return response.code();
+        }
+    }
+
+    private void assertRejected() throws IOException {
+        try {
+            call();
+            Assert.fail("The request was not rejected by the circuit breaker");
+        }
+        catch (CircuitBreakerInterceptor.CircuitBreakerOpenException expected) {}
+    }
+}
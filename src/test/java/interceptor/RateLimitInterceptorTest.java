@@ -0,0 +1,78 @@
+package interceptor;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class RateLimitInterceptorTest {
+
+    private MockWebServer server;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroRateTest() {
+        new RateLimitInterceptor(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeRateTest() {
+        new RateLimitInterceptor(-1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nanRateTest() {
+        new RateLimitInterceptor(Double.NaN, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroBurstTest() {
+        new RateLimitInterceptor(10, 0);
+    }
+
+    @Test
+    public void burstIsNotDelayedTest() throws IOException {
+        OkHttpClient client = client(new RateLimitInterceptor(1, 3));
+        long elapsed = timed(client, 3);
+        Assert.assertTrue("The burst was delayed (" + elapsed + "ms)", elapsed < 500);
+    }
+
+    @Test
+    public void sustainedRateTest() throws IOException {
+        OkHttpClient client = client(new RateLimitInterceptor(10, 1));
+        long elapsed = timed(client, 6);
+        // The first request uses the initial token, the other 5 wait 100ms each
+        Assert.assertTrue("Requests were not rate limited (" + elapsed + "ms)", elapsed >= 450);
+        Assert.assertTrue("Requests were delayed beyond the rate (" + elapsed + "ms)", elapsed < 1500);
+    }
+
+    private OkHttpClient client(RateLimitInterceptor rateLimiter) {
+        return new OkHttpClient.Builder().addInterceptor(rateLimiter).build();
+    }
+
+    private long timed(OkHttpClient client, int requests) throws IOException {
+        for (int i = 0; i < requests; i++) server.enqueue(new MockResponse());
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++)
+            try (Response ignored = client.newCall(new Request.Builder().url(server.url("/")).build()).execute()) {}
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,121 @@
+package interceptor;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+public class ResponseCacheInterceptorTest {
+
+    private MockWebServer server;
+    private ResponseCacheInterceptor cache;
+    private OkHttpClient client;
+    private ResponseCacheInterceptor revalidationCache;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        cache = new ResponseCacheInterceptor(16, Duration.ofMinutes(1), 16);
+        client = new OkHttpClient.Builder().addInterceptor(cache).build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void cachesSmallBodiesTest() throws IOException {
+        server.enqueue(new MockResponse().setBody("small"));
+        Assert.assertEquals("small", call(null));
+        Assert.assertEquals("small", call(null));
+        Assert.assertEquals("A cached response reached the server", 1, server.getRequestCount());
+        Assert.assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void passesLargeBodiesThroughTest() throws IOException {
+        String body = "a body larger than the maximum entry size";
+        server.enqueue(new MockResponse().setBody(body));
+        Assert.assertEquals(body, call(null));
+        Assert.assertEquals("A large body was cached", 0, cache.size());
+    }
+
+    @Test
+    public void passesLargeChunkedBodiesThroughTest() throws IOException {
+        String body = "a chunked body larger than the maximum entry size";
+        server.enqueue(new MockResponse().setChunkedBody(new Buffer().writeUtf8(body), 8));
+        Assert.assertEquals(body, call(null));
+        Assert.assertEquals("A large chunked body was cached", 0, cache.size());
+    }
+
+    @Test
+    public void separatesAuthorizationsTest() throws IOException {
+        server.enqueue(new MockResponse().setBody("first"));
+        server.enqueue(new MockResponse().setBody("second"));
+        Assert.assertEquals("first", call("Bearer first"));
+        Assert.assertEquals("second", call("Bearer second"));
+        Assert.assertEquals("first", call("Bearer first"));
+        Assert.assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void notModifiedIsServedFromCacheTest() throws IOException, InterruptedException {
+        OkHttpClient revalidating = revalidatingClient();
+        server.enqueue(new MockResponse().setHeader("ETag", "\"v1\"").setBody("first"));
+        server.enqueue(new MockResponse().setResponseCode(304));
+        Assert.assertEquals("first", fetch(revalidating));
+        Assert.assertEquals("first", fetch(revalidating));
+
+        Assert.assertNull(server.takeRequest().getHeader("If-None-Match"));
+        Assert.assertEquals("The entity tag was not sent", "\"v1\"", server.takeRequest().getHeader("If-None-Match"));
+        Assert.assertEquals(1, revalidationCache.getRevalidations());
+        Assert.assertEquals(1, revalidationCache.getMisses());
+    }
+
+    @Test
+    public void modifiedReplacesEntryTest() throws IOException, InterruptedException {
+        OkHttpClient revalidating = revalidatingClient();
+        server.enqueue(new MockResponse().setHeader("ETag", "\"v1\"").setBody("first"));
+        server.enqueue(new MockResponse().setHeader("ETag", "\"v2\"").setBody("second"));
+        server.enqueue(new MockResponse().setResponseCode(304));
+        Assert.assertEquals("first", fetch(revalidating));
+        Assert.assertEquals("second", fetch(revalidating));
+        Assert.assertEquals("The replaced entry was not served", "second", fetch(revalidating));
+
+        server.takeRequest();
+        Assert.assertEquals("\"v1\"", server.takeRequest().getHeader("If-None-Match"));
+        Assert.assertEquals("The replaced entity tag was not sent", "\"v2\"", server.takeRequest().getHeader("If-None-Match"));
+        Assert.assertEquals(1, revalidationCache.getRevalidations());
+        Assert.assertEquals(1, revalidationCache.size());
+    }
+
+    private OkHttpClient revalidatingClient() {
+        revalidationCache = new ResponseCacheInterceptor(16, Duration.ZERO);
+        return new OkHttpClient.Builder().addInterceptor(revalidationCache).build();
+    }
+
+    private String fetch(OkHttpClient client) throws IOException {
+        try (Response response = client.newCall(new Request.Builder().url(server.url("/users")).build()).execute()) {
+            return response.body().string();
+        }
+    }
+
+    private String call(String authorization) throws IOException {
+        Request.Builder request = new Request.Builder().url(server.url("/users"));
+        if (authorization != null) request.header("Authorization", authorization);
+        try (Response response = client.newCall(request.build()).execute()) {
+            return response.body().string();
+        }
+    }
+}
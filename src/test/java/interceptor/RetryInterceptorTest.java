@@ -0,0 +1,115 @@
+package interceptor;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+public class RetryInterceptorTest {
+
+    private MockWebServer server;
+    private OkHttpClient client;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        client = new OkHttpClient.Builder()
+                .addInterceptor(new RetryInterceptor(2, Duration.ofMillis(10), Duration.ofMillis(100)))
+                .build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void backoffTest() {
+        RetryInterceptor retry = new RetryInterceptor(5, Duration.ofMillis(100), Duration.ofSeconds(1));
+        long[] expected = {100, 200, 400, 800, 1000, 1000};
+        for (int attempt = 1; attempt <= expected.length; attempt++)
+            Assert.assertEquals("Delay of retry " + attempt, expected[attempt - 1], retry.delay(attempt, null).toMillis());
+        Assert.assertEquals("Large retry counts overflowed", 1000, retry.delay(100, null).toMillis());
+    }
+
+    @Test
+    public void retryAfterSecondsTest() {
+        RetryInterceptor retry = new RetryInterceptor(1, Duration.ofMillis(100), Duration.ofSeconds(5));
+        Assert.assertEquals(Duration.ofSeconds(2), retry.delay(1, " 2 "));
+        Assert.assertEquals("Retry-After was not capped", Duration.ofSeconds(5), retry.delay(1, "120"));
+        Assert.assertEquals("Negative Retry-After was not floored", Duration.ZERO, retry.delay(1, "-3"));
+    }
+
+    @Test
+    public void retryAfterDateTest() {
+        RetryInterceptor retry = new RetryInterceptor(1, Duration.ofMillis(100), Duration.ofSeconds(60));
+        String inTenSeconds = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(10));
+        long delay = retry.delay(1, inTenSeconds).toMillis();
+        Assert.assertTrue("Retry-After date delay " + delay + "ms", delay > 8_000 && delay <= 10_000);
+        String past = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).minusMinutes(1));
+        Assert.assertEquals(Duration.ZERO, retry.delay(1, past));
+    }
+
+    @Test
+    public void invalidRetryAfterTest() {
+        RetryInterceptor retry = new RetryInterceptor(1, Duration.ofMillis(100), Duration.ofSeconds(5));
+        Assert.assertEquals("An invalid Retry-After did not fall back to the backoff", Duration.ofMillis(100), retry.delay(1, "soon"));
+    }
+
+    @Test
+    public void retriesIdempotentRequestsTest() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "0"));
+        server.enqueue(new MockResponse().setBody("done"));
+        try (Response response = client.newCall(new Request.Builder().url(server.url("/")).build()).execute()) {
+            Assert.assertEquals(200, response.code());
+            Assert.assertEquals("done", response.body().string());
+        }
+        Assert.assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    public void stopsAfterMaxRetriesTest() throws IOException {
+        for (int i = 0; i < 4; i++) server.enqueue(new MockResponse().setResponseCode(500));
+        try (Response response = client.newCall(new Request.Builder().url(server.url("/")).build()).execute()) {
+            Assert.assertEquals(500, response.code());
+        }
+        Assert.assertEquals("Request count (1 attempt & 2 retries)", 3, server.getRequestCount());
+    }
+
+    @Test
+    public void doesNotRetryPostTest() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        Request post = new Request.Builder()
+                .url(server.url("/"))
+                .post(RequestBody.create("{}", MediaType.get("application/json")))
+                .build();
+        try (Response response = client.newCall(post).execute()) {
+            Assert.assertEquals(503, response.code());
+        }
+        Assert.assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void doesNotRetryClientErrorsTest() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(404));
+        try (Response response = client.newCall(new Request.Builder().url(server.url("/")).build()).execute()) {
+            Assert.assertEquals(404, response.code());
+        }
+        Assert.assertEquals(1, server.getRequestCount());
+    }
+}
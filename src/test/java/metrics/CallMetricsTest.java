@@ -0,0 +1,94 @@
+package metrics;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+public class CallMetricsTest {
+
+    private MockWebServer server;
+    private CallMetrics metrics;
+    private OkHttpClient client;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        metrics = new CallMetrics();
+        client = new OkHttpClient.Builder().eventListenerFactory(metrics.listenerFactory()).build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void endpointNameTest() {
+        HttpUrl url = HttpUrl.get("https://example.com/Account/v1/User/42/books/3f2504e0-4f89-11d3-9a0c-0305e82c3301");
+        Assert.assertEquals(
+                "GET example.com/Account/v1/User/{id}/books/{id}",
+                CallMetrics.endpointOf(new Request.Builder().url(url).build())
+        );
+    }
+
+    @Test
+    public void recordsCallsTest() throws IOException {
+        server.enqueue(new MockResponse().setBody("first"));
+        server.enqueue(new MockResponse().setBody("second"));
+        call("/users/1");
+        call("/users/2");
+
+        String endpoint = "GET " + server.getHostName() + "/users/{id}";
+        Assert.assertEquals(Set.of(endpoint), metrics.getEndpoints());
+        CallMetrics.EndpointMetrics endpointMetrics = metrics.endpoint(endpoint);
+        Assert.assertEquals(2, endpointMetrics.getCalls());
+        Assert.assertEquals(0, endpointMetrics.getFailures());
+        Assert.assertEquals(2, endpointMetrics.histogram(CallMetrics.Phase.total).getCount());
+        Assert.assertEquals(2, endpointMetrics.histogram(CallMetrics.Phase.ttfb).getCount());
+        Assert.assertEquals("The second call did not reuse the connection", 0.5, endpointMetrics.getConnectionReuseRate(), 0);
+    }
+
+    @Test
+    public void recordsFailuresTest() throws IOException {
+        server.shutdown();
+        try {
+            call("/users/1");
+            Assert.fail("The call to a stopped server did not fail");
+        }
+        catch (IOException expected) {}
+        CallMetrics.EndpointMetrics endpointMetrics = metrics.endpoint(metrics.getEndpoints().iterator().next());
+        Assert.assertEquals(1, endpointMetrics.getCalls());
+        Assert.assertEquals(1, endpointMetrics.getFailures());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void summaryTest() throws IOException {
+        server.enqueue(new MockResponse().setBody("body"));
+        call("/users");
+        Map<String, Object> summary = (Map<String, Object>) metrics.summary().get("GET " + server.getHostName() + "/users");
+        Assert.assertEquals(1L, summary.get("calls"));
+        Assert.assertTrue("Total phase is missing", summary.containsKey("total"));
+        Assert.assertFalse("Tls phase of a plain http call is summarized", summary.containsKey("tls"));
+        metrics.clear();
+        Assert.assertTrue(metrics.getEndpoints().isEmpty());
+    }
+
+    private void call(String path) throws IOException {
+        try (Response response = client.newCall(new Request.Builder().url(server.url(path)).build()).execute()) {
+            response.body().string();
+        }
+    }
+}
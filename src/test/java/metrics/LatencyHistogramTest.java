@@ -0,0 +1,68 @@
+package metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Map;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketBoundsTest() {
+        for (long micros = 0; micros < 1_000_000; micros += micros < 1000 ? 1 : 997) {
+            long upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(micros));
+            Assert.assertTrue("Upper bound " + upperBound + " is below " + micros, upperBound >= micros);
+            Assert.assertTrue("Upper bound " + upperBound + " of " + micros + " exceeds the relative error",
+                    upperBound - micros <= micros / 8);
+        }
+    }
+
+    @Test
+    public void bucketsAreOrderedTest() {
+        int previous = -1;
+        for (long micros = 0; micros < 10_000_000; micros = micros * 2 + 1) {
+            int index = LatencyHistogram.indexOf(micros);
+            Assert.assertTrue("Bucket of " + micros + " precedes a smaller value", index >= previous);
+            previous = index;
+        }
+        Assert.assertEquals("Huge values do not fall in the last bucket",
+                LatencyHistogram.indexOf(Long.MAX_VALUE), LatencyHistogram.indexOf(Long.MAX_VALUE / 2));
+    }
+
+    @Test
+    public void percentileTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 1000; millis++) histogram.record(millis * 1_000_000L);
+        Assert.assertEquals(1000, histogram.getCount());
+        assertWithin(500_000, histogram.percentile(50));
+        assertWithin(900_000, histogram.percentile(90));
+        assertWithin(990_000, histogram.percentile(99));
+        Assert.assertEquals("The maximum is not exact", 1_000_000, histogram.percentile(100));
+    }
+
+    @Test
+    public void summaryTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0d, histogram.summary().get("p99Ms"));
+        histogram.record(2_000_000);
+        histogram.record(4_000_000);
+        Map<String, Object> summary = histogram.summary();
+        Assert.assertEquals(2L, summary.get("count"));
+        Assert.assertEquals(2d, summary.get("minMs"));
+        Assert.assertEquals(3d, summary.get("meanMs"));
+        Assert.assertEquals(4d, summary.get("maxMs"));
+    }
+
+    @Test
+    public void negativeDurationTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        Assert.assertEquals(1, histogram.getCount());
+        Assert.assertEquals(0, histogram.percentile(100));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        Assert.assertTrue("Percentile " + actual + " is not within 12.5% of " + expected,
+                actual >= expected && actual <= expected + expected / 8);
+    }
+}
@@ -0,0 +1,74 @@
+package pickleib.driver;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class DriverRegistryTest {
+
+    private final DriverRegistry<RemoteWebDriver> registry = new DriverRegistry<>();
+    private final RemoteWebDriver fallback = new RemoteWebDriver() {};
+
+    @After
+    public void tearDown() {
+        DriverRegistry.closeScope();
+    }
+
+    @Test
+    public void fallbackUntilRegisteredTest() {
+        Assert.assertSame(fallback, registry.getDriver(fallback));
+        Assert.assertNull(registry.getWait(null));
+    }
+
+    @Test
+    public void ownSessionTest() {
+        RemoteWebDriver driver = new RemoteWebDriver() {};
+        registry.register(driver, null);
+        Assert.assertSame(driver, registry.getDriver(fallback));
+        Assert.assertTrue(registry.hasSession());
+        Assert.assertSame(driver, registry.unregister());
+        Assert.assertFalse(registry.hasSession());
+    }
+
+    @Test
+    public void doesNotBorrowAnotherScopeTest() {
+        DriverRegistry.openScope("scenario-1");
+        registry.register(new RemoteWebDriver() {}, null);
+        DriverRegistry.openScope("scenario-2");
+        Assert.assertNull("A scope borrowed the only live session", registry.getDriver(fallback));
+        Assert.assertNull(registry.getWait(null));
+    }
+
+    @Test
+    public void scopeWithoutSessionAfterTerminateTest() {
+        registry.register(new RemoteWebDriver() {}, null);
+        registry.unregister();
+        Assert.assertNull("A terminated scope fell back to the static driver", registry.getDriver(fallback));
+    }
+
+    @Test
+    public void threadScopesTest() throws InterruptedException {
+        RemoteWebDriver driver = new RemoteWebDriver() {};
+        registry.register(driver, null);
+        AtomicReference<RemoteWebDriver> resolved = new AtomicReference<>(driver);
+        Thread other = new Thread(() -> resolved.set(registry.getDriver(fallback)));
+        other.start();
+        other.join();
+        Assert.assertNull("Another thread resolved this thread's session", resolved.get());
+    }
+
+    @Test
+    public void scopedValuesTest() {
+        Assert.assertNull("A value was created without a session", registry.scoped("key", driver -> "value"));
+        RemoteWebDriver driver = new RemoteWebDriver() {};
+        registry.register(driver, null);
+        Object first = registry.scoped("key", session -> new Object());
+        Assert.assertSame("The scoped value was re-created", first, registry.scoped("key", session -> new Object()));
+        registry.unregister();
+        registry.register(driver, null);
+        Assert.assertNotSame("The value outlived its session", first, registry.scoped("key", session -> new Object()));
+    }
+}
@@ -0,0 +1,143 @@
+package pickleib.driver;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImplicitWaitTest {
+
+    private final TimeoutsDriver driver = new TimeoutsDriver(Duration.ZERO);
+
+    @Test
+    public void setSendsCommandOnlyOnChangeTest() {
+        ImplicitWait.set(driver, Duration.ofSeconds(5));
+        ImplicitWait.set(driver, Duration.ofSeconds(5));
+        Assert.assertEquals(List.of(Duration.ofSeconds(5)), driver.commands);
+        ImplicitWait.set(driver, Duration.ofSeconds(6));
+        Assert.assertEquals(List.of(Duration.ofSeconds(5), Duration.ofSeconds(6)), driver.commands);
+        Assert.assertEquals(Duration.ofSeconds(6), ImplicitWait.get(driver));
+    }
+
+    @Test
+    public void nestedScopesTest() {
+        ImplicitWait.set(driver, Duration.ofSeconds(10));
+        try (ImplicitWait outer = ImplicitWait.scope(driver, Duration.ofSeconds(2))) {
+            Assert.assertEquals(Duration.ofSeconds(2), driver.implicitWait);
+            try (ImplicitWait inner = ImplicitWait.scope(driver, Duration.ZERO)) {
+                Assert.assertEquals(Duration.ZERO, driver.implicitWait);
+            }
+            Assert.assertEquals(Duration.ofSeconds(2), driver.implicitWait);
+        }
+        Assert.assertEquals(Duration.ofSeconds(10), driver.implicitWait);
+        Assert.assertEquals(Duration.ofSeconds(10), ImplicitWait.get(driver));
+        Assert.assertEquals(5, driver.commands.size());
+    }
+
+    @Test
+    public void scopeWithUnchangedValueSendsNoCommandTest() {
+        ImplicitWait.set(driver, Duration.ofSeconds(10));
+        try (ImplicitWait scope = ImplicitWait.scope(driver, Duration.ofSeconds(10))) {
+            Assert.assertEquals(Duration.ofSeconds(10), ImplicitWait.get(driver));
+        }
+        Assert.assertEquals(1, driver.commands.size());
+    }
+
+    @Test
+    public void scopeRestoresUntrackedTimeoutTest() {
+        TimeoutsDriver configured = new TimeoutsDriver(Duration.ofSeconds(3));
+        try (ImplicitWait scope = ImplicitWait.scope(configured, Duration.ofSeconds(1))) {
+            Assert.assertEquals(Duration.ofSeconds(1), configured.implicitWait);
+        }
+        Assert.assertEquals("The timeout of the driver was not restored", Duration.ofSeconds(3), configured.implicitWait);
+    }
+
+    @Test
+    public void doubleCloseTest() {
+        ImplicitWait.set(driver, Duration.ofSeconds(10));
+        ImplicitWait outer = ImplicitWait.scope(driver, Duration.ofSeconds(2));
+        ImplicitWait inner = ImplicitWait.scope(driver, Duration.ofSeconds(4));
+        inner.close();
+        inner.close();
+        Assert.assertEquals("A second close popped the outer scope", Duration.ofSeconds(2), driver.implicitWait);
+        outer.close();
+        Assert.assertEquals(Duration.ofSeconds(10), driver.implicitWait);
+    }
+
+    @Test
+    public void setDuringScopeIsAppliedAfterCloseTest() {
+        ImplicitWait.set(driver, Duration.ofSeconds(10));
+        try (ImplicitWait outer = ImplicitWait.scope(driver, Duration.ofSeconds(2))) {
+            try (ImplicitWait inner = ImplicitWait.scope(driver, Duration.ofSeconds(1))) {
+                ImplicitWait.set(driver, Duration.ofSeconds(7));
+                Assert.assertEquals("The scope was overridden", Duration.ofSeconds(1), driver.implicitWait);
+            }
+            Assert.assertEquals(Duration.ofSeconds(2), driver.implicitWait);
+        }
+        Assert.assertEquals(Duration.ofSeconds(7), driver.implicitWait);
+    }
+
+    @Test
+    public void restoreDropsOpenScopesTest() {
+        ImplicitWait.set(driver, Duration.ofSeconds(10));
+        ImplicitWait leaked = ImplicitWait.scope(driver, Duration.ofSeconds(2));
+        ImplicitWait.restore(driver, Duration.ofSeconds(10));
+        Assert.assertEquals(Duration.ofSeconds(10), driver.implicitWait);
+        leaked.close();
+        Assert.assertEquals(Duration.ofSeconds(10), driver.implicitWait);
+        try (ImplicitWait scope = ImplicitWait.scope(driver, Duration.ofSeconds(1))) {
+            Assert.assertEquals(Duration.ofSeconds(1), driver.implicitWait);
+        }
+        Assert.assertEquals(Duration.ofSeconds(10), driver.implicitWait);
+    }
+
+    @Test
+    public void restoreSendsCommandForUnchangedValueTest() {
+        ImplicitWait.set(driver, Duration.ofSeconds(10));
+        driver.implicitWait = Duration.ofSeconds(30); // configured without ImplicitWait
+        ImplicitWait.restore(driver, Duration.ofSeconds(10));
+        Assert.assertEquals(Duration.ofSeconds(10), driver.implicitWait);
+        Assert.assertEquals(2, driver.commands.size());
+    }
+
+    /**
+     * A driver answering the timeout commands in memory
+     */
+    static class TimeoutsDriver extends RemoteWebDriver {
+        final List<Duration> commands = new ArrayList<>();
+        Duration implicitWait;
+
+        TimeoutsDriver(Duration implicitWait) {
+            this.implicitWait = implicitWait;
+        }
+
+        @Override
+        public Options manage() {
+            Timeouts timeouts = (Timeouts) Proxy.newProxyInstance(
+                    Timeouts.class.getClassLoader(),
+                    new Class<?>[]{Timeouts.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getImplicitWaitTimeout" -> implicitWait;
+                        case "implicitlyWait" -> {
+                            implicitWait = (Duration) args[0];
+                            commands.add(implicitWait);
+                            yield proxy;
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    }
+            );
+            return (Options) Proxy.newProxyInstance(
+                    Options.class.getClassLoader(),
+                    new Class<?>[]{Options.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("timeouts")) return timeouts;
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+            );
+        }
+    }
+}
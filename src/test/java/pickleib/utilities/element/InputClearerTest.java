@@ -0,0 +1,40 @@
+package pickleib.utilities.element;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+public class InputClearerTest {
+
+    @Test
+    public void defaultStrategyTest() {
+        Assert.assertEquals("The default strategy changed the clearing behaviour", InputClearer.Strategy.backspace, InputClearer.getStrategy());
+    }
+
+    @Test
+    public void macOsModifierTest() {
+        for (Platform platform : new Platform[]{Platform.MAC, Platform.MONTEREY, Platform.VENTURA})
+            Assert.assertEquals(platform + " modifier", Keys.COMMAND, InputClearer.selectAllModifier(driverOn(platform)));
+    }
+
+    @Test
+    public void otherPlatformModifierTest() {
+        for (Platform platform : new Platform[]{Platform.WINDOWS, Platform.WIN11, Platform.LINUX, Platform.ANY})
+            Assert.assertEquals(platform + " modifier", Keys.CONTROL, InputClearer.selectAllModifier(driverOn(platform)));
+        Assert.assertEquals("Unknown platform modifier", Keys.CONTROL, InputClearer.selectAllModifier(driverOn(null)));
+    }
+
+    private static RemoteWebDriver driverOn(Platform platform) {
+        Capabilities capabilities = platform == null ? new ImmutableCapabilities() : new ImmutableCapabilities("platformName", platform);
+        return new RemoteWebDriver() {
+            @Override
+            public Capabilities getCapabilities() {
+                return capabilities;
+            }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+package pickleib.utilities.polling;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+public class PollerTest {
+
+    private static final Printer log = new Printer(PollerTest.class);
+
+    @Test
+    public void fixedBackoffTest() {
+        BackoffStrategy backoff = BackoffStrategy.fixed(250);
+        for (int attempt = 1; attempt <= 5; attempt++)
+            Assert.assertEquals("Fixed delay of attempt " + attempt, 250, backoff.delay(attempt));
+    }
+
+    @Test
+    public void exponentialBackoffTest() {
+        BackoffStrategy backoff = BackoffStrategy.exponential(100, 2, 1000);
+        long[] expected = {100, 200, 400, 800, 1000, 1000};
+        for (int attempt = 1; attempt <= expected.length; attempt++)
+            Assert.assertEquals("Exponential delay of attempt " + attempt, expected[attempt - 1], backoff.delay(attempt));
+    }
+
+    @Test
+    public void jitteredBackoffTest() {
+        BackoffStrategy backoff = BackoffStrategy.jittered(100, 1000);
+        for (int attempt = 1; attempt <= 8; attempt++) {
+            long ceiling = Math.min(1000, 100L << (attempt - 1));
+            for (int sample = 0; sample < 100; sample++) {
+                long delay = backoff.delay(attempt);
+                Assert.assertTrue("Jittered delay " + delay + " is out of [0, " + ceiling + "]", delay >= 0 && delay <= ceiling);
+            }
+        }
+    }
+
+    @Test
+    public void pollSucceedsTest() {
+        PollingResult<String> result = new Poller(5000, BackoffStrategy.fixed(10), log)
+                .poll(statistics -> statistics.getAttempts() < 3 ? null : "done");
+        Assert.assertTrue("Poll is not successful", result.isSuccessful());
+        Assert.assertEquals("done", result.value());
+        Assert.assertEquals("Attempt count", 3, result.statistics().getAttempts());
+        Assert.assertEquals("Failure count", 0, result.statistics().getFailures());
+    }
+
+    @Test
+    public void pollTimeoutTest() {
+        long timeout = 300;
+        PollingResult<String> result = new Poller(timeout, BackoffStrategy.fixed(50), log).poll(statistics -> null);
+        long elapsed = result.statistics().getElapsedTime();
+        Assert.assertFalse("Poll is unexpectedly successful", result.isSuccessful());
+        Assert.assertTrue("Poll returned before the timeout (" + elapsed + "ms)", elapsed >= timeout);
+        Assert.assertTrue("Poll overran the timeout (" + elapsed + "ms)", elapsed < timeout + 200);
+    }
+
+    @Test
+    public void pollDoesNotSleepPastTimeoutTest() {
+        long timeout = 200;
+        PollingResult<String> result = new Poller(timeout, BackoffStrategy.fixed(10_000), log).poll(statistics -> null);
+        long elapsed = result.statistics().getElapsedTime();
+        Assert.assertEquals("Attempt count", 2, result.statistics().getAttempts());
+        Assert.assertTrue("Poll slept past the timeout (" + elapsed + "ms)", elapsed < timeout + 200);
+    }
+
+    @Test
+    public void retryableExceptionTest() {
+        PollingResult<String> result = new Poller(5000, BackoffStrategy.fixed(10), log).poll(statistics -> {
+            if (statistics.getAttempts() < 3) throw new NoSuchElementException("not yet");
+            return "found";
+        });
+        Assert.assertEquals("found", result.value());
+        Assert.assertEquals("Failure count", 2, result.statistics().getFailures());
+        Assert.assertTrue(result.statistics().getLastException() instanceof NoSuchElementException);
+    }
+
+    @Test(expected = NoSuchSessionException.class)
+    public void sessionExceptionIsFatalTest() {
+        new Poller(5000, BackoffStrategy.fixed(10), log).poll(statistics -> {throw new NoSuchSessionException("gone");});
+    }
+
+    @Test
+    public void orElseTest() {
+        PollingResult<String> failed = new Poller(50, BackoffStrategy.fixed(10), log).poll(statistics -> null);
+        PollingResult<String> succeeded = new Poller(50, BackoffStrategy.fixed(10), log).poll(statistics -> "value");
+        Assert.assertEquals("fallback", failed.orElse("fallback"));
+        Assert.assertEquals("value", succeeded.orElse("fallback"));
+    }
+
+    @Test
+    public void orElseThrowTest() {
+        PollingResult<String> succeeded = new Poller(50, BackoffStrategy.fixed(10), log).poll(statistics -> "value");
+        Assert.assertEquals("value", succeeded.orElseThrow(statistics -> new PickleibException("unexpected")));
+
+        PollingResult<String> failed = new Poller(50, BackoffStrategy.fixed(10), log).poll(statistics -> {
+            throw new NoSuchElementException("missing");
+        });
+        try {
+            failed.orElseThrow(statistics -> new PickleibException(statistics.getLastException()));
+            Assert.fail("orElseThrow did not throw");
+        }
+        catch (PickleibException exception) {
+            Assert.assertTrue("Cause is not the last attempt exception", exception.getCause() instanceof NoSuchElementException);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package pickleib.web.driver;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class BrowserProfileTest {
+
+    private List<String> blockedUrlPatterns;
+
+    @Before
+    public void setUp() {
+        blockedUrlPatterns = BrowserProfile.getBlockedUrlPatterns();
+    }
+
+    @After
+    public void tearDown() {
+        BrowserProfile.setBlockedUrlPatterns(blockedUrlPatterns);
+    }
+
+    @Test
+    public void proxyAutoConfigTest() {
+        BrowserProfile.setBlockedUrlPatterns(List.of("*ads.example.com*", "*.woff2"));
+        String script = URLDecoder.decode(BrowserProfile.proxyAutoConfig(), StandardCharsets.UTF_8);
+        Assert.assertTrue(script, script.startsWith("function FindProxyForURL(url, host) {"));
+        Assert.assertTrue(script, script.contains("if (shExpMatch(url, '*ads.example.com*')) return 'PROXY 127.0.0.1:9';"));
+        Assert.assertTrue(script, script.contains("if (shExpMatch(url, '*.woff2')) return 'PROXY 127.0.0.1:9';"));
+        Assert.assertTrue(script, script.endsWith(" return 'DIRECT'; }"));
+    }
+
+    @Test
+    public void proxyAutoConfigIsUrlSafeTest() {
+        BrowserProfile.setBlockedUrlPatterns(List.of("*a b.example.com/?x=1&y=2#z*"));
+        String encoded = BrowserProfile.proxyAutoConfig();
+        Assert.assertFalse("Spaces are encoded as +, which data urls do not decode", encoded.contains("+"));
+        Assert.assertTrue("Encoded script has unsafe characters: " + encoded, encoded.matches("[A-Za-z0-9%._*\\-]+"));
+        Assert.assertTrue(URLDecoder.decode(encoded, StandardCharsets.UTF_8).contains("'*a b.example.com/?x=1&y=2#z*'"));
+    }
+
+    @Test
+    public void quotesAreStrippedTest() {
+        BrowserProfile.setBlockedUrlPatterns(List.of("*it's.example.com*"));
+        String script = URLDecoder.decode(BrowserProfile.proxyAutoConfig(), StandardCharsets.UTF_8);
+        Assert.assertTrue("Quote broke out of the string literal: " + script, script.contains("'*its.example.com*'"));
+    }
+
+    @Test
+    public void parsePatternsTest() {
+        Assert.assertEquals(List.of("*a.com*", "*b.com*"), BrowserProfile.parsePatterns(" *a.com* ,, *b.com*,"));
+    }
+}
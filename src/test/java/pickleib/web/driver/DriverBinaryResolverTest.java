@@ -0,0 +1,168 @@
+package pickleib.web.driver;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static pickleib.web.driver.WebDriverFactory.BrowserType.*;
+
+public class DriverBinaryResolverTest {
+
+    private Path cacheDirectory;
+    private Path browser;
+    private Path driver;
+    private Path originalCacheDirectory;
+    private Function<WebDriverFactory.BrowserType, DriverBinaryResolver.Manager> originalManagers;
+    private final AtomicInteger setups = new AtomicInteger();
+    private final AtomicInteger cacheClears = new AtomicInteger();
+    private volatile long setupDuration;
+
+    @Before
+    public void setUp() throws IOException {
+        cacheDirectory = Files.createTempDirectory("driver-cache-");
+        browser = Files.createTempFile("browser-", ".bin");
+        driver = Files.createTempFile("driver-", ".bin");
+        driver.toFile().setExecutable(true);
+        originalCacheDirectory = DriverBinaryResolver.getCacheDirectory();
+        originalManagers = DriverBinaryResolver.managers;
+        DriverBinaryResolver.setCacheDirectory(cacheDirectory);
+        DriverBinaryResolver.managers = browserType -> new DriverBinaryResolver.Manager() {
+            @Override
+            public Optional<Path> browserPath() {
+                return Optional.of(browser);
+            }
+
+            @Override
+            public String setup() {
+                setups.incrementAndGet();
+                try {Thread.sleep(setupDuration);}
+                catch (InterruptedException exception) {Thread.currentThread().interrupt();}
+                return driver.toString();
+            }
+
+            @Override
+            public void clearResolutionCache() {
+                cacheClears.incrementAndGet();
+            }
+        };
+        DriverBinaryResolver.clear();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        DriverBinaryResolver.clear();
+        DriverBinaryResolver.setCacheDirectory(originalCacheDirectory);
+        DriverBinaryResolver.managers = originalManagers;
+        System.clearProperty("webdriver.chrome.driver");
+        System.clearProperty("webdriver.gecko.driver");
+        try (var paths = Files.walk(cacheDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+        Files.deleteIfExists(browser);
+        Files.deleteIfExists(driver);
+    }
+
+    @Test
+    public void resolvesOncePerJvmTest() {
+        Assert.assertEquals(driver.toString(), DriverBinaryResolver.resolve(CHROME));
+        Assert.assertEquals(driver.toString(), DriverBinaryResolver.resolve(CHROME));
+        Assert.assertEquals(1, setups.get());
+        Assert.assertEquals("The driver property was not set", driver.toString(), System.getProperty("webdriver.chrome.driver"));
+    }
+
+    @Test
+    public void concurrentResolutionsWaitForTheFirstTest() throws Exception {
+        setupDuration = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> paths = new ArrayList<>();
+            for (int i = 0; i < 4; i++) paths.add(executor.submit(() -> DriverBinaryResolver.resolve(CHROME)));
+            for (Future<String> path : paths) Assert.assertEquals(driver.toString(), path.get(5, TimeUnit.SECONDS));
+        }
+        finally {executor.shutdownNow();}
+        Assert.assertEquals("The driver was resolved more than once", 1, setups.get());
+    }
+
+    @Test
+    public void otherBrowsersAreNotBlockedTest() throws Exception {
+        setupDuration = 1000;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> DriverBinaryResolver.resolve(CHROME));
+            Thread.sleep(100);
+            setupDuration = 0;
+            long start = System.nanoTime();
+            DriverBinaryResolver.resolve(FIREFOX);
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Assert.assertTrue("Firefox waited for the Chrome resolution (" + elapsed + "ms)", elapsed < 500);
+        }
+        finally {executor.shutdownNow();}
+    }
+
+    @Test
+    public void recordIsReusedAcrossJvmsTest() {
+        DriverBinaryResolver.resolve(CHROME);
+        DriverBinaryResolver.clear(); // A new JVM
+        Assert.assertEquals(driver.toString(), DriverBinaryResolver.resolve(CHROME));
+        Assert.assertEquals("The disk record was not used", 1, setups.get());
+    }
+
+    @Test
+    public void browserUpdateInvalidatesRecordTest() throws IOException {
+        Path record = DriverBinaryResolver.recordOf(CHROME, DriverBinaryResolver.managers.apply(CHROME));
+        DriverBinaryResolver.resolve(CHROME);
+        Assert.assertTrue("The record was not written", Files.exists(record));
+
+        Files.setLastModifiedTime(browser, FileTime.fromMillis(Files.getLastModifiedTime(browser).toMillis() + 60_000));
+        Assert.assertNotEquals("The record key ignores the browser binary",
+                record, DriverBinaryResolver.recordOf(CHROME, DriverBinaryResolver.managers.apply(CHROME)));
+        DriverBinaryResolver.clear();
+        DriverBinaryResolver.resolve(CHROME);
+        Assert.assertEquals("The updated browser reused a stale record", 2, setups.get());
+    }
+
+    @Test
+    public void missingDriverIsResolvedAgainTest() throws IOException {
+        DriverBinaryResolver.resolve(CHROME);
+        Files.writeString(DriverBinaryResolver.recordOf(CHROME, DriverBinaryResolver.managers.apply(CHROME)), cacheDirectory.resolve("deleted").toString());
+        DriverBinaryResolver.clear();
+        Assert.assertEquals(driver.toString(), DriverBinaryResolver.resolve(CHROME));
+        Assert.assertEquals(2, setups.get());
+    }
+
+    @Test
+    public void invalidateRetriesOnceTest() throws IOException {
+        DriverBinaryResolver.resolve(CHROME);
+        Assert.assertFalse("A fresh resolution was invalidated for a retry", DriverBinaryResolver.invalidate(CHROME));
+
+        DriverBinaryResolver.clear();
+        DriverBinaryResolver.resolve(CHROME); // Read from the record
+        Path record = DriverBinaryResolver.recordOf(CHROME, DriverBinaryResolver.managers.apply(CHROME));
+        Assert.assertTrue("A cached resolution was not invalidated", DriverBinaryResolver.invalidate(CHROME));
+        Assert.assertFalse("The record was not deleted", Files.exists(record));
+        Assert.assertEquals(1, cacheClears.get());
+
+        DriverBinaryResolver.resolve(CHROME);
+        Assert.assertEquals("The invalidated driver was not resolved again", 2, setups.get());
+        Assert.assertFalse("The retry is not bounded", DriverBinaryResolver.invalidate(CHROME));
+    }
+
+    @Test
+    public void driverlessBrowserTest() {
+        Assert.assertEquals(driver.toString(), DriverBinaryResolver.resolve(SAFARI));
+        try (var records = Files.list(cacheDirectory)) {
+            Assert.assertEquals("A record was written for a browser without a driver property", 0, records.count());
+        }
+        catch (IOException exception) {throw new AssertionError(exception);}
+    }
+}
@@ -0,0 +1,154 @@
+package pickleib.web.driver;
+
+import com.google.gson.JsonParser;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import pickleib.exceptions.PickleibException;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GridSchedulerTest {
+
+    private final List<MockWebServer> servers = new ArrayList<>();
+    private final List<AtomicInteger> freeSlots = new ArrayList<>();
+    private long pollInterval;
+
+    @Before
+    public void setUp() {
+        pollInterval = GridScheduler.getPollInterval();
+        GridScheduler.setPollInterval(20);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        GridScheduler.setPollInterval(pollInterval);
+        for (MockWebServer server : servers) server.shutdown();
+    }
+
+    @Test
+    public void countFreeSlotsTest() {
+        String status = "{\"value\": {\"ready\": true, \"nodes\": [" +
+                node("UP", 3, slot("chrome", true), slot("chrome", false), slot("chrome", false), slot("firefox", false)) + "," +
+                node("DOWN", 4, slot("chrome", false)) + "," +
+                node("UP", 1, slot("chrome", true), slot("chrome", false)) +
+                "]}}";
+        Assert.assertEquals(2, GridScheduler.countFreeSlots(JsonParser.parseString(status).getAsJsonObject(), "chrome"));
+        Assert.assertEquals(1, GridScheduler.countFreeSlots(JsonParser.parseString(status).getAsJsonObject(), "firefox"));
+        Assert.assertEquals("Grid 3 readiness is not counted as a slot",
+                1, GridScheduler.countFreeSlots(JsonParser.parseString("{\"value\": {\"ready\": true}}").getAsJsonObject(), "chrome"));
+    }
+
+    @Test
+    public void skipsSaturatedHubTest() throws IOException {
+        GridScheduler scheduler = new GridScheduler(List.of(hub(0), hub(2)));
+        Assert.assertEquals("The saturated hub was selected", 1, scheduler.reserve("chrome", deadline(1000)));
+    }
+
+    @Test
+    public void reservationsAreDeductedTest() throws IOException {
+        GridScheduler scheduler = new GridScheduler(List.of(hub(1), hub(1)));
+        int first = scheduler.reserve("chrome", deadline(1000));
+        int second = scheduler.reserve("chrome", deadline(1000));
+        Assert.assertNotEquals("Both reservations were dispatched to the same hub", first, second);
+    }
+
+    @Test
+    public void waitTimesOutTest() throws IOException {
+        GridScheduler scheduler = new GridScheduler(List.of(hub(0)));
+        long timeout = 300, start = System.nanoTime();
+        try {
+            scheduler.reserve("chrome", deadline(timeout));
+            Assert.fail("A slot was reserved on a saturated hub");
+        }
+        catch (PickleibException expected) {}
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.assertTrue("Wait ended before the timeout (" + elapsed + "ms)", elapsed >= timeout);
+        Assert.assertTrue("Wait overran the timeout (" + elapsed + "ms)", elapsed < timeout + 500);
+    }
+
+    @Test
+    public void firstComeFirstServedTest() throws Exception {
+        GridScheduler scheduler = new GridScheduler(List.of(hub(0)));
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        Thread first = reserving(scheduler, "first", order);
+        Thread.sleep(100);
+        Thread second = reserving(scheduler, "second", order);
+        Thread.sleep(100);
+
+        freeSlots.get(0).set(1);
+        first.join(2000);
+        Thread.sleep(200);
+        Assert.assertEquals("The single free slot was not handed to the first request", List.of("first"), order);
+        Assert.assertTrue("The second request stopped waiting", second.isAlive());
+
+        freeSlots.get(0).set(2);
+        second.join(2000);
+        Assert.assertEquals(List.of("first", "second"), order);
+    }
+
+    @Test
+    public void firstHubTest() {
+        Assert.assertEquals("http://hub-a:4444/wd/hub",
+                GridScheduler.firstHub("http://hub-a:4444/wd/hub, http://hub-b:4444/wd/hub").toString());
+    }
+
+    @Test(expected = PickleibException.class)
+    public void noHubTest() {
+        GridScheduler.firstHub(" ");
+    }
+
+    private Thread reserving(GridScheduler scheduler, String name, List<String> order) {
+        Thread thread = new Thread(() -> {
+            scheduler.reserve("chrome", deadline(5000));
+            order.add(name);
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private URL hub(int slots) throws IOException {
+        AtomicInteger free = new AtomicInteger(slots);
+        MockWebServer server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if (!"/status".equals(request.getPath())) return new MockResponse().setResponseCode(404);
+                List<String> nodeSlots = new ArrayList<>();
+                for (int i = 0; i < free.get(); i++) nodeSlots.add(slot("chrome", false));
+                nodeSlots.add(slot("chrome", true));
+                return new MockResponse().setBody("{\"value\": {\"ready\": true, \"nodes\": [" +
+                        node("UP", nodeSlots.size(), nodeSlots.toArray(String[]::new)) + "]}}");
+            }
+        });
+        server.start();
+        servers.add(server);
+        freeSlots.add(free);
+        return server.url("/").url();
+    }
+
+    private static String node(String availability, int maxSessions, String... slots) {
+        return "{\"availability\": \"" + availability + "\", \"maxSessions\": " + maxSessions + ", \"slots\": [" + String.join(",", slots) + "]}";
+    }
+
+    private static String slot(String browserName, boolean occupied) {
+        return "{\"stereotype\": {\"browserName\": \"" + browserName + "\"}, \"session\": " +
+                (occupied ? "{\"sessionId\": \"busy\"}" : "null") + "}";
+    }
+
+    private static long deadline(long millis) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -0,0 +1,46 @@
+package pickleib.web.driver;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+public class NetworkInterceptionTest {
+
+    @Test
+    public void wildcardTest() {
+        Pattern pattern = NetworkInterception.globToRegex("*api/users*");
+        Assert.assertTrue(pattern.matcher("https://example.com/api/users?page=2").matches());
+        Assert.assertTrue(pattern.matcher("api/users").matches());
+        Assert.assertFalse(pattern.matcher("https://example.com/api/orders").matches());
+    }
+
+    @Test
+    public void patternIsAnchoredTest() {
+        Pattern pattern = NetworkInterception.globToRegex("https://example.com/*.js");
+        Assert.assertTrue(pattern.matcher("https://example.com/static/app.js").matches());
+        Assert.assertFalse("Suffix was not anchored", pattern.matcher("https://example.com/app.json").matches());
+        Assert.assertFalse("Prefix was not anchored", pattern.matcher("http://cdn.test/?u=https://example.com/app.js").matches());
+    }
+
+    @Test
+    public void metacharactersAreLiteralTest() {
+        Pattern pattern = NetworkInterception.globToRegex("*example.com/search?q=(a|b)*");
+        Assert.assertTrue(pattern.matcher("https://example.com/search?q=(a|b)&page=1").matches());
+        Assert.assertFalse("Dot matched any character", pattern.matcher("https://exampleXcom/search?q=(a|b)").matches());
+        Assert.assertFalse("Group was not literal", pattern.matcher("https://example.com/search?q=a").matches());
+    }
+
+    @Test
+    public void patternWithoutWildcardTest() {
+        Pattern pattern = NetworkInterception.globToRegex("https://example.com/");
+        Assert.assertTrue(pattern.matcher("https://example.com/").matches());
+        Assert.assertFalse(pattern.matcher("https://example.com/index.html").matches());
+    }
+
+    @Test
+    public void consecutiveWildcardsTest() {
+        Assert.assertTrue(NetworkInterception.globToRegex("**").matcher("anything").matches());
+        Assert.assertTrue(NetworkInterception.globToRegex("*").matcher("").matches());
+    }
+}
@@ -0,0 +1,244 @@
+package pickleib.web.driver;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import pickleib.driver.ImplicitWait;
+import pickleib.exceptions.PickleibException;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public class WebDriverPoolTest {
+
+    private final List<FakeDriver> launched = new ArrayList<>();
+    private Function<WebDriverFactory.BrowserType, RemoteWebDriver> launcher;
+    private int maxReuse;
+    private long acquireTimeout;
+
+    @Before
+    public void setUp() {
+        launcher = WebDriverPool.launcher;
+        maxReuse = WebDriverPool.maxReuse;
+        acquireTimeout = WebDriverPool.acquireTimeout;
+        WebDriverPool.launcher = browserType -> {
+            FakeDriver driver = new FakeDriver("session-" + launched.size());
+            launched.add(driver);
+            return driver;
+        };
+    }
+
+    @After
+    public void tearDown() {
+        WebDriverPool.launcher = launcher;
+        WebDriverPool.setMaxReuse(maxReuse);
+        WebDriverPool.setAcquireTimeout(acquireTimeout);
+    }
+
+    @Test
+    public void acquireLaunchesSessionTest() {
+        WebDriverPool pool = new WebDriverPool(WebDriverFactory.BrowserType.CHROME, 2);
+        RemoteWebDriver driver = pool.acquire();
+        Assert.assertEquals(1, launched.size());
+        Assert.assertSame(launched.get(0), driver);
+        Assert.assertEquals(1, pool.getLeasedCount());
+        Assert.assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void releasedSessionIsReusedTest() {
+        WebDriverPool pool = new WebDriverPool(WebDriverFactory.BrowserType.CHROME, 2);
+        RemoteWebDriver driver = pool.acquire();
+        pool.release(driver);
+        Assert.assertEquals(1, pool.getIdleCount());
+        Assert.assertSame("The warm session was not reused", driver, pool.acquire());
+        Assert.assertEquals(1, launched.size());
+        Assert.assertEquals("about:blank", launched.get(0).url);
+    }
+
+    @Test
+    public void warmUpIsBoundedByCapacityTest() {
+        WebDriverPool pool = new WebDriverPool(WebDriverFactory.BrowserType.CHROME, 2);
+        pool.warmUp(5);
+        Assert.assertEquals(2, launched.size());
+        Assert.assertEquals(2, pool.getIdleCount());
+    }
+
+    @Test
+    public void unhealthySessionIsRecycledTest() {
+        WebDriverPool pool = new WebDriverPool(WebDriverFactory.BrowserType.CHROME, 1);
+        RemoteWebDriver driver = pool.acquire();
+        pool.release(driver);
+        launched.get(0).alive = false;
+        RemoteWebDriver replacement = pool.acquire();
+        Assert.assertNotSame(driver, replacement);
+        Assert.assertEquals(1, launched.get(0).quits);
+        Assert.assertEquals(2, launched.size());
+    }
+
+    @Test
+    public void maxReuseQuitsSessionTest() {
+        WebDriverPool.setMaxReuse(2);
+        WebDriverPool pool = new WebDriverPool(WebDriverFactory.BrowserType.CHROME, 1);
+        pool.release(pool.acquire());
+        Assert.assertEquals(0, launched.get(0).quits);
+        pool.release(pool.acquire());
+        Assert.assertEquals("The session was not quit at the max reuse count", 1, launched.get(0).quits);
+        Assert.assertEquals(0, pool.getIdleCount());
+        Assert.assertNotSame(launched.get(0), pool.acquire());
+    }
+
+    @Test
+    public void failedResetQuitsSessionTest() {
+        WebDriverPool pool = new WebDriverPool(WebDriverFactory.BrowserType.CHROME, 1);
+        RemoteWebDriver driver = pool.acquire();
+        launched.get(0).scriptsFail = true;
+        pool.release(driver);
+        Assert.assertEquals(1, launched.get(0).quits);
+        Assert.assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void acquireTimeoutTest() {
+        WebDriverPool.setAcquireTimeout(50);
+        WebDriverPool pool = new WebDriverPool(WebDriverFactory.BrowserType.CHROME, 1);
+        RemoteWebDriver driver = pool.acquire();
+        Assert.assertThrows(PickleibException.class, pool::acquire);
+        pool.release(driver);
+        Assert.assertSame("The permit was not returned on release", driver, pool.acquire());
+    }
+
+    @Test
+    public void releaseOfForeignDriverTest() {
+        WebDriverPool pool = new WebDriverPool(WebDriverFactory.BrowserType.CHROME, 1);
+        Assert.assertThrows(PickleibException.class, () -> pool.release(new FakeDriver("foreign")));
+    }
+
+    @Test
+    public void resetRestoresImplicitWaitAndWindowTest() {
+        WebDriverPool pool = new WebDriverPool(WebDriverFactory.BrowserType.CHROME, 1);
+        RemoteWebDriver driver = pool.acquire();
+        FakeDriver session = launched.get(0);
+        ImplicitWait.scope(driver, Duration.ofSeconds(2)); // left open by the scenario
+        driver.manage().window().setSize(new Dimension(400, 300));
+
+        pool.release(driver);
+
+        Duration baseWait = Duration.ofSeconds(WebDriverFactory.driverTimeout);
+        Assert.assertEquals(baseWait, session.implicitWait);
+        Assert.assertEquals(baseWait, ImplicitWait.get(driver));
+        Assert.assertEquals(new Dimension(WebDriverFactory.frameWidth, WebDriverFactory.frameHeight), session.windowSize);
+    }
+
+    @Test
+    public void resetReappliesDirectlyChangedImplicitWaitTest() {
+        WebDriverPool pool = new WebDriverPool(WebDriverFactory.BrowserType.CHROME, 1);
+        RemoteWebDriver driver = pool.acquire();
+        FakeDriver session = launched.get(0);
+        ImplicitWait.set(driver, Duration.ofSeconds(WebDriverFactory.driverTimeout));
+        session.implicitWait = Duration.ofSeconds(7); // configured without ImplicitWait
+
+        pool.release(driver);
+
+        Assert.assertEquals(Duration.ofSeconds(WebDriverFactory.driverTimeout), session.implicitWait);
+    }
+
+    /**
+     * A browser session answering the pool commands in memory
+     */
+    static class FakeDriver extends RemoteWebDriver {
+        final String id;
+        boolean alive = true;
+        boolean scriptsFail;
+        int quits;
+        String url;
+        Duration implicitWait = Duration.ZERO;
+        Dimension windowSize = new Dimension(800, 600);
+        final Set<String> handles = new LinkedHashSet<>(List.of("primary"));
+
+        FakeDriver(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public SessionId getSessionId() {
+            return alive ? new SessionId(id) : null;
+        }
+
+        @Override
+        public String getWindowHandle() {
+            if (!alive) throw new NoSuchSessionException("Session is gone");
+            return handles.iterator().next();
+        }
+
+        @Override
+        public Set<String> getWindowHandles() {
+            return new LinkedHashSet<>(handles);
+        }
+
+        @Override
+        public Object executeScript(String script, Object... args) {
+            if (scriptsFail) throw new WebDriverException("Script failed");
+            return null;
+        }
+
+        @Override
+        public TargetLocator switchTo() {
+            return proxy(TargetLocator.class, (method, args) -> null);
+        }
+
+        @Override
+        public Options manage() {
+            Timeouts timeouts = proxy(Timeouts.class, (method, args) -> {
+                if (method.equals("getImplicitWaitTimeout")) return implicitWait;
+                if (method.equals("implicitlyWait")) implicitWait = (Duration) args[0];
+                return null;
+            });
+            Window window = proxy(Window.class, (method, args) -> {
+                if (method.equals("setSize")) windowSize = (Dimension) args[0];
+                return null;
+            });
+            return proxy(Options.class, (method, args) -> switch (method) {
+                case "timeouts" -> timeouts;
+                case "window" -> window;
+                default -> null;
+            });
+        }
+
+        @Override
+        public void get(String url) {
+            this.url = url;
+        }
+
+        @Override
+        public void quit() {
+            quits++;
+            alive = false;
+        }
+
+        private <T> T proxy(Class<T> type, BiFunction<String, Object[], Object> handler) {
+            return type.cast(Proxy.newProxyInstance(
+                    type.getClassLoader(),
+                    new Class<?>[]{type},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+                        if (method.getName().equals("equals")) return proxy == args[0];
+                        Object result = handler.apply(method.getName(), args);
+                        return result == null && method.getReturnType().isInstance(proxy) ? proxy : result;
+                    }
+            ));
+        }
+    }
+}